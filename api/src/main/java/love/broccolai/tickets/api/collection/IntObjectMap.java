@@ -0,0 +1,291 @@
+package love.broccolai.tickets.api.collection;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Insertion ordered map from {@code int} keys to values that stores keys unboxed.
+ *
+ * <p>Entries live in two dense arrays in insertion order, an open addressing table of entry positions maps keys to
+ * them. Looking up, adding and iterating by index through {@link #keyAt(int)} / {@link #valueAt(int)} allocate
+ * nothing per entry. The {@link Map} view boxes keys on demand. Removing an entry shifts the later ones down to keep
+ * insertion order and rebuilds the table, so it costs time linear in the size of the map.</p>
+ *
+ * @param <V> value type
+ */
+public final class IntObjectMap<V> extends AbstractMap<Integer, V> {
+
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    // entry position + 1 per slot, 0 marks an empty slot
+    private int[] table;
+    private int mask;
+
+    public IntObjectMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    public IntObjectMap(final int expectedSize) {
+        int entries = Math.max(expectedSize, 1);
+
+        this.keys = new int[entries];
+        this.values = new Object[entries];
+        this.allocateTable(tableSize(entries));
+    }
+
+    private IntObjectMap(final IntObjectMap<?> other, final Object[] values) {
+        this.keys = other.keys.clone();
+        this.values = values;
+        this.size = other.size;
+        this.table = other.table.clone();
+        this.mask = other.mask;
+    }
+
+    public @Nullable V get(final int key) {
+        int position = this.position(key);
+        return position < 0 ? null : this.valueAt(position);
+    }
+
+    public boolean containsKey(final int key) {
+        return this.position(key) >= 0;
+    }
+
+    public @Nullable V put(final int key, final @NonNull V value) {
+        int slot = this.slot(key);
+        int position = this.table[slot] - 1;
+
+        if (position >= 0) {
+            V previous = this.valueAt(position);
+            this.values[position] = value;
+
+            return previous;
+        }
+
+        if (this.size == this.keys.length) {
+            this.grow();
+            slot = this.slot(key);
+        }
+
+        this.keys[this.size] = key;
+        this.values[this.size] = value;
+        this.table[slot] = ++this.size;
+
+        return null;
+    }
+
+    public @Nullable V remove(final int key) {
+        int position = this.position(key);
+        return position < 0 ? null : this.removeAt(position);
+    }
+
+    public @NonNull V removeAt(final int index) {
+        V previous = this.valueAt(index);
+        int moved = this.size - index - 1;
+
+        System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+        System.arraycopy(this.values, index + 1, this.values, index, moved);
+        this.values[--this.size] = null;
+        this.rehash();
+
+        return previous;
+    }
+
+    public int keyAt(final int index) {
+        this.checkIndex(index);
+        return this.keys[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public @NonNull V valueAt(final int index) {
+        this.checkIndex(index);
+        return (V) this.values[index];
+    }
+
+    /**
+     * Copies this map with every value transformed, keeping keys and order without rehashing.
+     */
+    public <R> @NonNull IntObjectMap<R> mapValues(final @NonNull Function<? super V, ? extends R> mapper) {
+        IntObjectMap<R> mapped = new IntObjectMap<>(this, new Object[this.keys.length]);
+
+        for (int i = 0; i < this.size; i++) {
+            mapped.values[i] = mapper.apply(this.valueAt(i));
+        }
+
+        return mapped;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public @Nullable V get(final @Nullable Object key) {
+        return key instanceof Integer id ? this.get(id.intValue()) : null;
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        return key instanceof Integer id && this.containsKey(id.intValue());
+    }
+
+    @Override
+    public @Nullable V put(final @NonNull Integer key, final @NonNull V value) {
+        return this.put(key.intValue(), value);
+    }
+
+    @Override
+    public @Nullable V remove(final @Nullable Object key) {
+        return key instanceof Integer id ? this.remove(id.intValue()) : null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.values, 0, this.size, null);
+        Arrays.fill(this.table, 0);
+        this.size = 0;
+    }
+
+    @Override
+    public @NonNull Collection<V> values() {
+        return new Values();
+    }
+
+    @Override
+    public @NonNull Set<Entry<Integer, V>> entrySet() {
+        return new EntrySet();
+    }
+
+    private int position(final int key) {
+        return this.table[this.slot(key)] - 1;
+    }
+
+    private int slot(final int key) {
+        int slot = hash(key) & this.mask;
+
+        while (true) {
+            int position = this.table[slot] - 1;
+
+            if (position < 0 || this.keys[position] == key) {
+                return slot;
+            }
+
+            slot = (slot + 1) & this.mask;
+        }
+    }
+
+    private void grow() {
+        int capacity = this.keys.length * 2;
+
+        this.keys = Arrays.copyOf(this.keys, capacity);
+        this.values = Arrays.copyOf(this.values, capacity);
+        this.allocateTable(tableSize(capacity));
+        this.rehash();
+    }
+
+    private void rehash() {
+        Arrays.fill(this.table, 0);
+
+        for (int i = 0; i < this.size; i++) {
+            this.table[this.slot(this.keys[i])] = i + 1;
+        }
+    }
+
+    private void allocateTable(final int size) {
+        this.table = new int[size];
+        this.mask = size - 1;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size);
+        }
+    }
+
+    private static int tableSize(final int entries) {
+        // keep the table at most half full so probe sequences stay short
+        return Integer.highestOneBit(Math.max(entries, 2) * 2 - 1) << 1;
+    }
+
+    private static int hash(final int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Values extends AbstractList<V> {
+
+        @Override
+        public V get(final int index) {
+            return IntObjectMap.this.valueAt(index);
+        }
+
+        @Override
+        public V remove(final int index) {
+            return IntObjectMap.this.removeAt(index);
+        }
+
+        @Override
+        public int size() {
+            return IntObjectMap.this.size;
+        }
+
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<Integer, V>> {
+
+        @Override
+        public Iterator<Entry<Integer, V>> iterator() {
+            return new Iterator<>() {
+                private int index;
+                private int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return this.index < IntObjectMap.this.size;
+                }
+
+                @Override
+                public Entry<Integer, V> next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    this.last = this.index++;
+                    return new SimpleImmutableEntry<>(IntObjectMap.this.keyAt(this.last), IntObjectMap.this.valueAt(this.last));
+                }
+
+                @Override
+                public void remove() {
+                    if (this.last < 0) {
+                        throw new IllegalStateException();
+                    }
+
+                    IntObjectMap.this.removeAt(this.last);
+                    this.index = this.last;
+                    this.last = -1;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return IntObjectMap.this.size;
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package love.broccolai.tickets.api.event;
+
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.Action;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public interface TicketListener {
+
+    default void ticketCreated(final @NonNull Ticket ticket) {
+    }
+
+    /**
+     * Called once {@code action} has been added to {@code ticket} and saved.
+     */
+    default void actionApplied(final @NonNull Ticket ticket, final @NonNull Action action) {
+    }
+
+    /**
+     * Like {@link #actionApplied(Ticket, Action)}, with the status {@code ticket} had before {@code action}, for listeners
+     * that react to status transitions. Delegates to {@link #actionApplied(Ticket, Action)} unless overridden.
+     */
+    default void actionApplied(final @NonNull Ticket ticket, final @NonNull Action action, final @NonNull TicketStatus previousStatus) {
+        this.actionApplied(ticket, action);
+    }
+
+}
@@ -0,0 +1,23 @@
+package love.broccolai.tickets.api.model;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Restricts search results, filters left {@code null} match every ticket.
+ */
+public record SearchFilter(
+        @Nullable TicketStatus status,
+        @Nullable UUID assignee,
+        @Nullable Instant since
+) {
+
+    private static final SearchFilter ANY = new SearchFilter(null, null, null);
+
+    public static @NonNull SearchFilter any() {
+        return ANY;
+    }
+
+}
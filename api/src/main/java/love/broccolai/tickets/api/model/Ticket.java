@@ -2,14 +2,26 @@ package love.broccolai.tickets.api.model;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.api.model.action.CloseAction;
+import love.broccolai.tickets.api.model.action.EditAction;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * A ticket and its action history.
+ *
+ * <p>The mutable state is guarded by the ticket's own monitor, so a ticket handed to the asynchronous services can still be
+ * read by its caller while a database thread saves or rebases it. Iterating {@link #actions()} while it may be appended to
+ * must hold {@code synchronized (ticket)}.</p>
+ */
 public final class Ticket {
 
     private final int id;
@@ -18,7 +30,9 @@ public final class Ticket {
     private final @NonNull Instant date;
     private @Nullable UUID assignee;
     private @NonNull String message;
-    private final @NonNull List<Action> actions;
+    private @NonNull List<Action> actions;
+    private int savedActions;
+    private int version;
 
     public Ticket(
             final int id,
@@ -28,6 +42,19 @@ public final class Ticket {
             final @Nullable UUID assignee,
             final @NonNull String message,
             final @NonNull List<Action> actions
+    ) {
+        this(id, status, creator, date, assignee, message, actions, 0);
+    }
+
+    public Ticket(
+            final int id,
+            final TicketStatus status,
+            final @NonNull UUID creator,
+            final @NonNull Instant date,
+            final @Nullable UUID assignee,
+            final @NonNull String message,
+            final @NonNull List<Action> actions,
+            final int version
     ) {
         this.id = id;
         this.status = status;
@@ -36,6 +63,8 @@ public final class Ticket {
         this.assignee = assignee;
         this.message = message;
         this.actions = actions;
+        this.savedActions = actions.size();
+        this.version = version;
     }
 
     public int id() {
@@ -46,11 +75,11 @@ public final class Ticket {
         return this.creator;
     }
 
-    public @NonNull TicketStatus status() {
+    public synchronized @NonNull TicketStatus status() {
         return this.status;
     }
 
-    public void status(final @NonNull TicketStatus status) {
+    public synchronized void status(final @NonNull TicketStatus status) {
         this.status = status;
     }
 
@@ -58,26 +87,95 @@ public final class Ticket {
         return this.date;
     }
 
-    public @NonNull Optional<@NonNull UUID> assignee() {
+    public synchronized @NonNull Optional<@NonNull UUID> assignee() {
         return Optional.ofNullable(this.assignee);
     }
 
-    public void assignee(final @NonNull UUID assignee) {
+    public synchronized void assignee(final @NonNull UUID assignee) {
         this.assignee = assignee;
     }
 
-    public @NonNull String message() {
+    public synchronized @NonNull String message() {
         return this.message;
     }
 
-    public void message(final @NonNull String message) {
+    public synchronized void message(final @NonNull String message) {
         this.message = message;
     }
 
-    public @NonNull List<Action> actions() {
+    public synchronized @NonNull List<Action> actions() {
         return this.actions;
     }
 
+    /**
+     * Appends the action and applies its effect: assigning, closing or editing the message.
+     */
+    public synchronized void apply(final @NonNull Action action) {
+        if (action instanceof AssignAction assign) {
+            this.assignee = assign.assignee();
+        } else if (action instanceof CloseAction) {
+            this.status = TicketStatus.CLOSED;
+        } else if (action instanceof EditAction edit) {
+            this.message = edit.message();
+        }
+
+        this.actions.add(action);
+    }
+
+    /**
+     * A snapshot of the actions appended since the last save, actions appended after it is taken stay pending.
+     */
+    public synchronized @NonNull List<Action> pendingActions() {
+        int size = this.actions.size();
+        List<Action> pending = new ArrayList<>(size - this.savedActions);
+
+        for (int index = this.savedActions; index < size; index++) {
+            pending.add(this.actions.get(index));
+        }
+
+        return Collections.unmodifiableList(pending);
+    }
+
+    /**
+     * The stored version this ticket was loaded at, saves only succeed while it is still current.
+     */
+    public synchronized int version() {
+        return this.version;
+    }
+
+    /**
+     * Marks the first {@code count} pending actions as saved, as returned by the {@link #pendingActions()} snapshot that was written.
+     */
+    public synchronized void markSaved(final int count) {
+        this.savedActions += count;
+        this.version++;
+    }
+
+    /**
+     * Moves this ticket onto a newer stored copy of itself after losing a compare-and-set save: takes over the stored state,
+     * version and action history, then {@link #apply(Action) re-applies} the actions still pending here on top of it.
+     *
+     * <p>Field changes made without an action are replaced by the stored values, and {@link #actions()} returns a new list.</p>
+     */
+    public synchronized void rebase(final @NonNull Ticket stored) {
+        if (stored.id != this.id || stored == this) {
+            throw new IllegalArgumentException("Can only rebase onto another copy of ticket " + this.id);
+        }
+
+        List<Action> pending = this.pendingActions();
+
+        this.status = stored.status;
+        this.assignee = stored.assignee;
+        this.message = stored.message;
+        this.actions = stored.actions;
+        this.savedActions = stored.savedActions;
+        this.version = stored.version;
+
+        for (final Action action : pending) {
+            this.apply(action);
+        }
+    }
+
     @Override
     public boolean equals(final @Nullable Object obj) {
         if (obj == this) {
@@ -0,0 +1,11 @@
+package love.broccolai.tickets.api.model;
+
+import java.time.Instant;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public record TicketActivity(
+        @NonNull Instant start,
+        long opened,
+        long closed
+) {
+}
@@ -0,0 +1,22 @@
+package love.broccolai.tickets.api.model;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public record TicketDraft(
+        @NonNull TicketStatus status,
+        @NonNull UUID creator,
+        @NonNull Instant date,
+        @Nullable UUID assignee,
+        @NonNull String message
+) {
+
+    public TicketDraft {
+        // stored with second precision, matching the tickets built from it to what is read back
+        date = date.truncatedTo(ChronoUnit.SECONDS);
+    }
+
+}
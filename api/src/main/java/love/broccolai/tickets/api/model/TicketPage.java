@@ -0,0 +1,19 @@
+package love.broccolai.tickets.api.model;
+
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public record TicketPage(
+        @NonNull List<@NonNull Ticket> tickets,
+        boolean hasNext
+) {
+
+    public int cursor() {
+        if (this.tickets.isEmpty()) {
+            return 0;
+        }
+
+        return this.tickets.get(this.tickets.size() - 1).id();
+    }
+
+}
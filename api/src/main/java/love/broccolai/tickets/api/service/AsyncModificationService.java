@@ -0,0 +1,20 @@
+package love.broccolai.tickets.api.service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.api.model.action.CloseAction;
+import love.broccolai.tickets.api.model.action.EditAction;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public interface AsyncModificationService {
+
+    @NonNull CompletableFuture<@NonNull CloseAction> close(@NonNull Ticket ticket, @NonNull UUID creator, @Nullable String message);
+
+    @NonNull CompletableFuture<@NonNull EditAction> edit(@NonNull Ticket ticket, @NonNull UUID creator, @NonNull String message);
+
+    @NonNull CompletableFuture<@NonNull AssignAction> assign(@NonNull Ticket ticket, @NonNull UUID creator, @NonNull UUID assignee);
+
+}
@@ -0,0 +1,52 @@
+package love.broccolai.tickets.api.service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import love.broccolai.tickets.api.collection.IntObjectMap;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketDraft;
+import love.broccolai.tickets.api.model.TicketPage;
+import love.broccolai.tickets.api.model.TicketStatus;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public interface AsyncStorageService {
+
+    @NonNull CompletableFuture<@NonNull Ticket> createTicket(@NonNull UUID creator, @NonNull String message);
+
+    @NonNull CompletableFuture<@NonNull List<@NonNull Ticket>> createTickets(@NonNull Collection<@NonNull TicketDraft> drafts);
+
+    @NonNull CompletableFuture<Void> saveTicket(@NonNull Ticket ticket);
+
+    @NonNull CompletableFuture<Void> saveTickets(@NonNull Collection<@NonNull Ticket> tickets);
+
+    @NonNull CompletableFuture<@NonNull Ticket> selectTicket(int id);
+
+    @NonNull CompletableFuture<@NonNull IntObjectMap<@NonNull Ticket>> selectTickets(int... ids);
+
+    @NonNull CompletableFuture<@NonNull Collection<@NonNull Ticket>> findTickets(
+            @NonNull TicketStatus status,
+            @Nullable UUID assignee,
+            @Nullable Instant since
+    );
+
+    @NonNull CompletableFuture<@NonNull TicketPage> findTickets(
+            @NonNull TicketStatus status,
+            @Nullable UUID assignee,
+            @Nullable Instant since,
+            int after,
+            int limit
+    );
+
+    @NonNull CompletableFuture<@NonNull Collection<@NonNull Ticket>> findTicketsByCreator(
+            @NonNull UUID creator,
+            @NonNull TicketStatus status
+    );
+
+    @NonNull CompletableFuture<@NonNull Map<@NonNull UUID, @NonNull Integer>> countTicketsByCreator(@NonNull TicketStatus status);
+
+}
@@ -0,0 +1,15 @@
+package love.broccolai.tickets.api.service;
+
+import java.util.List;
+import love.broccolai.tickets.api.model.SearchFilter;
+import love.broccolai.tickets.api.model.Ticket;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public interface SearchService {
+
+    /**
+     * Tickets whose message or action messages match {@code query}, best match first.
+     */
+    @NonNull List<@NonNull Ticket> searchTickets(@NonNull String query, @NonNull SearchFilter filter, int limit);
+
+}
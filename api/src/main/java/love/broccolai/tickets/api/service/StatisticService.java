@@ -1,9 +1,27 @@
 package love.broccolai.tickets.api.service;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import love.broccolai.tickets.api.model.TicketActivity;
 
 public interface StatisticService {
 
     Duration averageTicketsLifespan(Duration duration);
 
+    /**
+     * Nearest-rank percentile of closed ticket lifespans, {@code percentile} being in {@code (0, 1]}.
+     */
+    Duration ticketsLifespanPercentile(Duration duration, double percentile);
+
+    Duration averageTimeToFirstAssign(Duration duration);
+
+    /**
+     * One entry per hour, oldest first, ending with the current hour.
+     */
+    List<TicketActivity> hourlyTicketActivity(Duration duration);
+
+    Map<UUID, Long> closedTicketsPerAssignee(Duration duration);
+
 }
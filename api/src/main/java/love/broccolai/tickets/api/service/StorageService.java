@@ -2,9 +2,14 @@ package love.broccolai.tickets.api.service;
 
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
+import love.broccolai.tickets.api.collection.IntObjectMap;
 import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketDraft;
+import love.broccolai.tickets.api.model.TicketPage;
 import love.broccolai.tickets.api.model.TicketStatus;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -13,16 +18,48 @@ public interface StorageService {
 
     @NonNull Ticket createTicket(@NonNull UUID creator, @NonNull String message);
 
+    @NonNull List<@NonNull Ticket> createTickets(@NonNull Collection<@NonNull TicketDraft> drafts);
+
     //todo(josh): rework into transaction based system.
     void saveTicket(@NonNull Ticket ticket);
 
+    void saveTickets(@NonNull Collection<@NonNull Ticket> tickets);
+
     @NonNull Ticket selectTicket(int id);
 
-    @NonNull Map<@NonNull Integer, @NonNull Ticket> selectTickets(int... ids);
+    @NonNull IntObjectMap<@NonNull Ticket> selectTickets(int... ids);
 
     @NonNull Collection<@NonNull Ticket> findTickets(
             @NonNull TicketStatus status,
             @Nullable UUID assignee,
             @Nullable Instant since
     );
+
+    @NonNull TicketPage findTickets(
+            @NonNull TicketStatus status,
+            @Nullable UUID assignee,
+            @Nullable Instant since,
+            int after,
+            int limit
+    );
+
+    /**
+     * Streams matching tickets while they are read, without materialising the whole result.
+     *
+     * <p>The stream holds a pooled database connection until it is closed, always close it, ideally with
+     * try-with-resources, even when it is not fully consumed.</p>
+     */
+    @NonNull Stream<@NonNull Ticket> streamTickets(
+            @NonNull TicketStatus status,
+            @Nullable UUID assignee,
+            @Nullable Instant since
+    );
+
+    @NonNull Collection<@NonNull Ticket> findTicketsByCreator(@NonNull UUID creator, @NonNull TicketStatus status);
+
+    /**
+     * Number of tickets with {@code status} per creator, creators without any are left out.
+     */
+    @NonNull Map<@NonNull UUID, @NonNull Integer> countTicketsByCreator(@NonNull TicketStatus status);
+
 }
@@ -0,0 +1,25 @@
+package love.broccolai.tickets.api.service;
+
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Thrown when a ticket is saved from a stale {@link love.broccolai.tickets.api.model.Ticket#version() version}
+ * because another writer saved it first. Nothing of the failed save is persisted.
+ */
+public final class TicketConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Set<Integer> tickets;
+
+    public TicketConflictException(final @NonNull Set<@NonNull Integer> tickets) {
+        super("Tickets " + tickets + " were modified concurrently");
+        this.tickets = Set.copyOf(tickets);
+    }
+
+    public @NonNull Set<@NonNull Integer> tickets() {
+        return this.tickets;
+    }
+
+}
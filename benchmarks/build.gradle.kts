@@ -0,0 +1,23 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    jmh(projects.ticketsCore)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    resultFormat.set("JSON")
+}
+
+tasks {
+    // JMH generates subclasses of every benchmark state, so they cannot follow the final class rules.
+    withType<Checkstyle>().matching { it.name == "checkstyleJmh" }.configureEach {
+        enabled = false
+    }
+
+    withType<PublishToMavenRepository>().configureEach {
+        enabled = false
+    }
+}
@@ -0,0 +1,96 @@
+package love.broccolai.tickets.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.api.model.action.CloseAction;
+import love.broccolai.tickets.api.model.action.EditAction;
+import love.broccolai.tickets.core.storage.ActionType;
+import love.broccolai.tickets.core.storage.ActionTypeRegistry;
+import love.broccolai.tickets.core.storage.DelegatingActionMapper;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.statement.Update;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActionMapperBenchmark {
+
+    private static final String INSERT_ACTION = """
+            INSERT INTO tickets_action(`type`, `ticket`, `creator`, `date`, `message`, `assignee`)
+            VALUES (:type, :ticket, :creator, :date, :message, :assignee)
+            """;
+
+    private final DelegatingActionMapper mapper = new DelegatingActionMapper();
+
+    @Param({"ASSIGN", "CLOSE", "EDIT"})
+    public String type;
+
+    private BenchmarkDatabase database;
+    private Handle handle;
+    private Action action;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.database = BenchmarkDatabase.create(BenchmarkDatabase.LATEST);
+        this.handle = this.database.jdbi().open();
+
+        UUID creator = UUID.randomUUID();
+
+        this.action = switch (this.type) {
+            case "ASSIGN" -> new AssignAction(TimeUtilities.nowTruncated(), creator, UUID.randomUUID());
+            case "CLOSE" -> new CloseAction(TimeUtilities.nowTruncated(), creator, "Closed");
+            case "EDIT" -> new EditAction(TimeUtilities.nowTruncated(), creator, "Edited");
+            default -> throw new IllegalArgumentException(this.type);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        this.handle.close();
+        this.database.close();
+    }
+
+    @Benchmark
+    public Update createUpdate() {
+        try (Update update = this.handle.createUpdate(INSERT_ACTION)) {
+            return update;
+        }
+    }
+
+    /**
+     * Includes the cost of {@link #createUpdate()}; the difference between the two is the binding itself.
+     */
+    @Benchmark
+    public Update bind() {
+        try (Update update = this.handle.createUpdate(INSERT_ACTION)) {
+            return this.mapper.bind(update, this.action)
+                    .bind("ticket", 1)
+                    .bind("date", this.action.date());
+        }
+    }
+
+    @Benchmark
+    public ActionType<Action> resolveType() {
+        return this.handle.getConfig(ActionTypeRegistry.class).type(this.action);
+    }
+
+}
@@ -0,0 +1,137 @@
+package love.broccolai.tickets.benchmarks;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.UUID;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.core.storage.UuidStorage;
+import love.broccolai.tickets.core.utilities.TicketsJdbiPlugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.PreparedBatch;
+
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    public static final String LATEST = "latest";
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final String[] ACTION_TYPES = {"ASSIGN", "EDIT", "CLOSE"};
+
+    private final Jdbi jdbi;
+    private final UUID[] players;
+
+    private int tickets;
+
+    private BenchmarkDatabase(final Jdbi jdbi, final UUID[] players) {
+        this.jdbi = jdbi;
+        this.players = players;
+    }
+
+    public static @NonNull BenchmarkDatabase create(final @NonNull String schemaVersion) {
+        return create(schemaVersion, UuidStorage.TEXT);
+    }
+
+    public static @NonNull BenchmarkDatabase create(final @NonNull String schemaVersion, final @NonNull UuidStorage uuidStorage) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("user");
+
+        uuidStorage.configure(Flyway.configure())
+                .dataSource(dataSource)
+                .locations("classpath:queries/migrations")
+                .target(schemaVersion)
+                .load()
+                .migrate();
+
+        UUID[] players = new UUID[64];
+
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new UUID(0, i);
+        }
+
+        return new BenchmarkDatabase(Jdbi.create(dataSource).installPlugin(new TicketsJdbiPlugin(uuidStorage)), players);
+    }
+
+    public @NonNull Jdbi jdbi() {
+        return this.jdbi;
+    }
+
+    public int tickets() {
+        return this.tickets;
+    }
+
+    public @NonNull UUID player(final int index) {
+        return this.players[Math.floorMod(index, this.players.length)];
+    }
+
+    /**
+     * Inserts tickets spread over the last 30 days, every other ticket closed, each with
+     * {@code actionsPerTicket} actions ending in a close for closed tickets.
+     */
+    public void populate(final int tickets, final int actionsPerTicket) {
+        Random random = new Random(tickets);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        long window = ChronoUnit.DAYS.getDuration().multipliedBy(30).toSeconds();
+
+        this.jdbi.useHandle(handle -> {
+            for (int offset = 0; offset < tickets; offset += BATCH_SIZE) {
+                int end = Math.min(tickets, offset + BATCH_SIZE);
+
+                PreparedBatch ticketBatch = handle.prepareBatch(
+                        "INSERT INTO tickets_ticket(id, status, creator, date, assignee, message) "
+                                + "VALUES (:id, :status, :creator, :date, :assignee, :message)"
+                );
+                PreparedBatch actionBatch = handle.prepareBatch(
+                        "INSERT INTO tickets_action(type, ticket, creator, date, message, assignee) "
+                                + "VALUES (:type, :ticket, :creator, :date, :message, :assignee)"
+                );
+
+                for (int i = offset; i < end; i++) {
+                    int id = this.tickets + i + 1;
+                    boolean closed = i % 2 == 0;
+                    Instant date = now.minusSeconds(random.nextInt((int) window));
+                    UUID assignee = this.player(random.nextInt());
+
+                    ticketBatch.bind("id", id)
+                            .bind("status", closed ? TicketStatus.CLOSED : TicketStatus.OPEN)
+                            .bind("creator", this.player(i))
+                            .bind("date", date)
+                            .bind("assignee", assignee)
+                            .bind("message", "Ticket message " + i)
+                            .add();
+
+                    for (int a = 0; a < actionsPerTicket; a++) {
+                        String type = closed && a == actionsPerTicket - 1 ? "CLOSE" : ACTION_TYPES[a % 2];
+
+                        actionBatch.bind("type", type)
+                                .bind("ticket", id)
+                                .bind("creator", this.player(a))
+                                .bind("date", date.plusSeconds(60L * (a + 1)))
+                                .bind("message", "EDIT".equals(type) ? "Edit " + a : null)
+                                .bind("assignee", "ASSIGN".equals(type) ? assignee : null)
+                                .add();
+                    }
+                }
+
+                ticketBatch.execute();
+
+                if (actionBatch.size() > 0) {
+                    actionBatch.execute();
+                }
+            }
+
+            handle.execute("ALTER TABLE tickets_ticket ALTER COLUMN id RESTART WITH " + (this.tickets + tickets + 1));
+        });
+
+        this.tickets += tickets;
+    }
+
+    @Override
+    public void close() {
+        this.jdbi.useHandle(handle -> handle.execute("DROP ALL OBJECTS"));
+    }
+
+}
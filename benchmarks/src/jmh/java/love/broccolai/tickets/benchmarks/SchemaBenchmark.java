@@ -0,0 +1,108 @@
+package love.broccolai.tickets.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import love.broccolai.tickets.api.model.TicketStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares query latency of the original schema (V1) against the indexed schema (V2).
+ *
+ * <p>The queries are fixed copies of the V1-era select/find queries so both schema versions run the same SQL.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaBenchmark {
+
+    private static final int ACTIONS_PER_TICKET = 10;
+
+    private static final String SELECT_TICKET = """
+            SELECT t.id, t.status, t.creator, t.date, t.assignee, t.message,
+                   a.type, a.creator as action_creator, a.date as action_date, a.message as action_message
+            FROM tickets_ticket as t
+                     LEFT JOIN tickets_action as a
+                               ON (t.id = a.ticket)
+            WHERE t.id = :id
+            """;
+
+    private static final String FIND_TICKETS = """
+            SELECT t.id, t.status, t.creator, t.date, t.assignee, t.message,
+                   a.type, a.creator as action_creator, a.date as action_date, a.message as action_message
+            FROM tickets_ticket as t
+                     LEFT JOIN tickets_action as a
+                               ON (t.id = a.ticket)
+            WHERE t.status = :status
+              AND (:assignee IS NULL OR t.assignee = :assignee)
+              AND (:since IS NULL OR t.date > :since)
+            """;
+
+    @Param({"1", "2"})
+    public String schemaVersion;
+
+    @Param({"1000000"})
+    public int actions;
+
+    private BenchmarkDatabase database;
+    private Instant recent;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.database = BenchmarkDatabase.create(this.schemaVersion);
+        this.database.populate(this.actions / ACTIONS_PER_TICKET, ACTIONS_PER_TICKET);
+        this.recent = Instant.now().minus(Duration.ofHours(6));
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        this.database.close();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> selectTicket() {
+        return this.database.jdbi().withHandle(handle -> handle.createQuery(SELECT_TICKET)
+                .bind("id", ThreadLocalRandom.current().nextInt(this.database.tickets()) + 1)
+                .mapToMap()
+                .list());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> findOpenTicketsForAssignee() {
+        return this.database.jdbi().withHandle(handle -> handle.createQuery(FIND_TICKETS)
+                .bind("status", TicketStatus.OPEN)
+                .bind("assignee", this.database.player(ThreadLocalRandom.current().nextInt()))
+                .bind("since", (Instant) null)
+                .mapToMap()
+                .list());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> findRecentClosedTickets() {
+        return this.database.jdbi().withHandle(handle -> handle.createQuery(FIND_TICKETS)
+                .bind("status", TicketStatus.CLOSED)
+                .bind("assignee", (Object) null)
+                .bind("since", this.recent)
+                .mapToMap()
+                .list());
+    }
+
+}
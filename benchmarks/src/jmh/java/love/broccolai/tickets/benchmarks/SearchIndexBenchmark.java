@@ -0,0 +1,87 @@
+package love.broccolai.tickets.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import love.broccolai.tickets.api.model.SearchFilter;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.core.search.SearchIndex;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class SearchIndexBenchmark {
+
+    private static final int VOCABULARY = 50_000;
+    private static final int WORDS_PER_MESSAGE = 12;
+
+    @Param({"10000", "100000", "1000000"})
+    public int tickets;
+
+    private SearchIndex index;
+    private SearchFilter open;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        this.index = new SearchIndex();
+        this.open = new SearchFilter(TicketStatus.OPEN, null, null);
+
+        for (int id = 1; id <= this.tickets; id++) {
+            StringBuilder message = new StringBuilder();
+
+            for (int i = 0; i < WORDS_PER_MESSAGE; i++) {
+                message.append(word(random)).append(' ');
+            }
+
+            this.index.index(new Ticket(
+                    id,
+                    id % 4 == 0 ? TicketStatus.OPEN : TicketStatus.CLOSED,
+                    UUID.randomUUID(),
+                    TimeUtilities.nowTruncated(),
+                    null,
+                    message.toString(),
+                    new ArrayList<>()
+            ));
+        }
+    }
+
+    @Benchmark
+    public int[] searchRareTerms() {
+        return this.index.search("w4821 w30117", SearchFilter.any(), 20);
+    }
+
+    @Benchmark
+    public int[] searchCommonTerms() {
+        return this.index.search("w1 w2 w3", SearchFilter.any(), 20);
+    }
+
+    @Benchmark
+    public int[] searchCommonTermsFiltered() {
+        return this.index.search("w1 w2 w3", this.open, 20);
+    }
+
+    // roughly Zipf distributed, so a handful of words appear in most messages like they would in real text
+    private static String word(final Random random) {
+        return "w" + (int) Math.pow(VOCABULARY, random.nextDouble());
+    }
+
+}
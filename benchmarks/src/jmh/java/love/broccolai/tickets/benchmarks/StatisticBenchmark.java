@@ -0,0 +1,97 @@
+package love.broccolai.tickets.benchmarks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import love.broccolai.tickets.api.model.TicketActivity;
+import love.broccolai.tickets.api.service.StatisticService;
+import love.broccolai.tickets.core.service.AggregatingStatisticService;
+import love.broccolai.tickets.core.service.CalculatingStatisticService;
+import love.broccolai.tickets.core.service.DatabaseStatisticService;
+import love.broccolai.tickets.core.service.DatabaseStorageService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticBenchmark {
+
+    private static final Duration WINDOW = Duration.ofDays(30);
+
+    @Param({"calculating", "database", "aggregating"})
+    public String implementation;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int tickets;
+
+    private BenchmarkDatabase database;
+    private StatisticService statisticService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.database = BenchmarkDatabase.create(BenchmarkDatabase.LATEST);
+        this.database.populate(this.tickets, 4);
+
+        this.statisticService = switch (this.implementation) {
+            case "calculating" -> new CalculatingStatisticService(new DatabaseStorageService(this.database.jdbi()));
+            case "database" -> new DatabaseStatisticService(this.database.jdbi());
+            case "aggregating" -> {
+                AggregatingStatisticService statisticService = new AggregatingStatisticService(
+                        new DatabaseStorageService(this.database.jdbi())
+                );
+                statisticService.bootstrap();
+
+                yield statisticService;
+            }
+            default -> throw new IllegalArgumentException(this.implementation);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        this.database.close();
+    }
+
+    @Benchmark
+    public Duration averageTicketsLifespan() {
+        return this.statisticService.averageTicketsLifespan(WINDOW);
+    }
+
+    @Benchmark
+    public Duration ticketsLifespanPercentile() {
+        return this.statisticService.ticketsLifespanPercentile(WINDOW, 0.9);
+    }
+
+    @Benchmark
+    public Duration averageTimeToFirstAssign() {
+        return this.statisticService.averageTimeToFirstAssign(WINDOW);
+    }
+
+    @Benchmark
+    public List<TicketActivity> hourlyTicketActivity() {
+        return this.statisticService.hourlyTicketActivity(Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public Map<UUID, Long> closedTicketsPerAssignee() {
+        return this.statisticService.closedTicketsPerAssignee(WINDOW);
+    }
+
+}
@@ -0,0 +1,162 @@
+package love.broccolai.tickets.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import love.broccolai.tickets.api.collection.IntObjectMap;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketDraft;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.EditAction;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.service.DatabaseStorageService;
+import love.broccolai.tickets.core.storage.ActionLoading;
+import love.broccolai.tickets.core.storage.ChunkedFetch;
+import love.broccolai.tickets.core.storage.UuidStorage;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the storage service's point, batch and bulk operations against a populated database.
+ *
+ * <p>The defaults keep a run to four trials. Larger data sets take minutes per trial to populate, pass them and the
+ * binary UUID layout explicitly to the jar built by {@code jmhJar}, e.g. {@code java -jar build/libs/*-jmh.jar
+ * StorageServiceBenchmark -p tickets=1000,100000,1000000 -p uuidStorage=TEXT,BINARY}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageServiceBenchmark {
+
+    private static final int ACTIONS_PER_TICKET = 4;
+    private static final int IMPORT_BATCH_SIZE = 100;
+    private static final int SELECT_BATCH_SIZE = 5000;
+
+    @Param({"10000"})
+    public int tickets;
+
+    @Param({"TEXT"})
+    public UuidStorage uuidStorage;
+
+    @Param({"EAGER", "LAZY"})
+    public ActionLoading actionLoading;
+
+    @Param({"1", "4"})
+    public int selectParallelism;
+
+    private BenchmarkDatabase database;
+    private ExecutorService selectExecutor;
+    private StorageService storageService;
+    private Instant recent;
+    private List<TicketDraft> drafts;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.database = BenchmarkDatabase.create(BenchmarkDatabase.LATEST, this.uuidStorage);
+        this.database.populate(this.tickets, ACTIONS_PER_TICKET);
+        this.selectExecutor = Executors.newFixedThreadPool(this.selectParallelism);
+        this.storageService = new DatabaseStorageService(
+                this.database.jdbi(),
+                this.actionLoading,
+                new ChunkedFetch(ChunkedFetch.DEFAULT_CHUNK_SIZE, this.selectParallelism, this.selectExecutor)
+        );
+        this.recent = Instant.now().minus(Duration.ofHours(6));
+        this.drafts = new ArrayList<>(IMPORT_BATCH_SIZE);
+
+        for (int i = 0; i < IMPORT_BATCH_SIZE; i++) {
+            this.drafts.add(new TicketDraft(TicketStatus.OPEN, this.database.player(i), this.recent, null, "Imported"));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        this.selectExecutor.shutdownNow();
+        this.database.close();
+    }
+
+    @Benchmark
+    public Ticket createTicket() {
+        return this.storageService.createTicket(this.database.player(ThreadLocalRandom.current().nextInt()), "Benchmark");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IMPORT_BATCH_SIZE)
+    public List<Ticket> createTickets() {
+        return this.storageService.createTickets(this.drafts);
+    }
+
+    @Benchmark
+    public Ticket saveTicket() {
+        Ticket ticket = this.storageService.selectTicket(this.randomId());
+        ticket.message("Saved");
+
+        this.storageService.saveTicket(ticket);
+
+        return ticket;
+    }
+
+    @Benchmark
+    public Ticket saveTicketWithAction() {
+        Ticket ticket = this.storageService.selectTicket(this.randomId());
+        ticket.actions().add(new EditAction(TimeUtilities.nowTruncated(), ticket.creator(), "Saved"));
+
+        this.storageService.saveTicket(ticket);
+
+        return ticket;
+    }
+
+    @Benchmark
+    public Ticket selectTicket() {
+        return this.storageService.selectTicket(this.randomId());
+    }
+
+    @Benchmark
+    public IntObjectMap<Ticket> selectTickets() {
+        int[] ids = new int[SELECT_BATCH_SIZE];
+
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = this.randomId();
+        }
+
+        return this.storageService.selectTickets(ids);
+    }
+
+    @Benchmark
+    public Collection<Ticket> findOpenTicketsForAssignee() {
+        UUID assignee = this.database.player(ThreadLocalRandom.current().nextInt());
+        return this.storageService.findTickets(TicketStatus.OPEN, assignee, null);
+    }
+
+    @Benchmark
+    public Collection<Ticket> findRecentClosedTickets() {
+        return this.storageService.findTickets(TicketStatus.CLOSED, null, this.recent);
+    }
+
+    private int randomId() {
+        return ThreadLocalRandom.current().nextInt(this.tickets) + 1;
+    }
+
+}
@@ -0,0 +1,77 @@
+package love.broccolai.tickets.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import love.broccolai.tickets.api.collection.IntObjectMap;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.core.storage.TicketAccumulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reduces joined ticket/action rows into tickets; {@code readRows} reads the same rows without
+ * mapping them, which isolates the cost of the reduction from the query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketAccumulatorBenchmark {
+
+    private static final String SELECT_TICKETS = """
+            SELECT t.id, t.status, t.creator, t.date, t.assignee, t.message, t.version,
+                   a.type, a.creator as action_creator, a.date as action_date, a.message as action_message,
+                   a.assignee as action_assignee
+            FROM tickets_ticket as t
+                     LEFT JOIN tickets_action as a
+                               ON (t.id = a.ticket)
+            ORDER BY t.id, a.id
+            """;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int tickets;
+
+    @Param({"4"})
+    public int actionsPerTicket;
+
+    private BenchmarkDatabase database;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.database = BenchmarkDatabase.create(BenchmarkDatabase.LATEST);
+        this.database.populate(this.tickets, this.actionsPerTicket);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        this.database.close();
+    }
+
+    @Benchmark
+    public List<Ticket> reduceResultSet() {
+        return this.database.jdbi().withHandle(handle -> TicketAccumulator.ticketList(handle.createQuery(SELECT_TICKETS)
+                .reduceResultSet(new IntObjectMap<>(this.tickets), new TicketAccumulator())));
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> readRows() {
+        return this.database.jdbi().withHandle(handle -> handle.createQuery(SELECT_TICKETS)
+                .mapToMap()
+                .list());
+    }
+
+}
@@ -14,5 +14,10 @@ dependencies {
 
     api(libs.bundles.guice)
 
+    runtimeOnly(libs.flyway.mysql)
+    runtimeOnly(libs.mysql)
+    runtimeOnly(libs.mariadb)
+    runtimeOnly(libs.postgresql)
+
     testImplementation(libs.jdbi.testing)
 }
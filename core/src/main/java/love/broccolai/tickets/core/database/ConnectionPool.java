@@ -0,0 +1,75 @@
+package love.broccolai.tickets.core.database;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Hikari pool built from a {@link DatabaseConfiguration}.
+ */
+public final class ConnectionPool implements AutoCloseable {
+
+    private static final String POOL_NAME = "tickets";
+
+    private final WaitTimeTracker tracker = new WaitTimeTracker();
+    private final HikariDataSource dataSource;
+
+    public ConnectionPool(final @NonNull DatabaseConfiguration configuration) {
+        DatabaseConfiguration.Pool pool = configuration.pool();
+        HikariConfig config = new HikariConfig();
+
+        config.setPoolName(POOL_NAME);
+        config.setJdbcUrl(configuration.jdbcUrl());
+        config.setUsername(configuration.username());
+        config.setPassword(configuration.password());
+
+        config.setMaximumPoolSize(pool.maximumPoolSize());
+        config.setMinimumIdle(pool.minimumIdle());
+        config.setConnectionTimeout(pool.connectionTimeoutMillis());
+        config.setIdleTimeout(pool.idleTimeoutMillis());
+        config.setMaxLifetime(pool.maxLifetimeMillis());
+        config.setKeepaliveTime(pool.keepaliveTimeMillis());
+        config.setLeakDetectionThreshold(pool.leakDetectionThresholdMillis());
+
+        for (final Map.Entry<String, String> property : configuration.type()
+                .dataSourceProperties(configuration.statementCache())
+                .entrySet()) {
+            config.addDataSourceProperty(property.getKey(), property.getValue());
+        }
+
+        config.setMetricsTrackerFactory((name, stats) -> this.tracker);
+
+        this.dataSource = new HikariDataSource(config);
+    }
+
+    public @NonNull DataSource dataSource() {
+        return this.dataSource;
+    }
+
+    public @NonNull PoolMetrics metrics() {
+        HikariPoolMXBean pool = this.dataSource.getHikariPoolMXBean();
+        long acquisitions = this.tracker.acquisitions();
+        long averageWait = acquisitions == 0 ? 0 : this.tracker.waitNanos() / acquisitions;
+
+        return new PoolMetrics(
+                pool.getActiveConnections(),
+                pool.getIdleConnections(),
+                pool.getTotalConnections(),
+                pool.getThreadsAwaitingConnection(),
+                acquisitions,
+                Duration.ofNanos(averageWait),
+                Duration.ofNanos(this.tracker.maximumWaitNanos()),
+                this.tracker.timeouts()
+        );
+    }
+
+    @Override
+    public void close() {
+        this.dataSource.close();
+    }
+
+}
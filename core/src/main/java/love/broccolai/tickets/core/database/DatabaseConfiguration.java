@@ -0,0 +1,176 @@
+package love.broccolai.tickets.core.database;
+
+import love.broccolai.tickets.core.storage.ActionLoading;
+import love.broccolai.tickets.core.storage.UuidStorage;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@ConfigSerializable
+public final class DatabaseConfiguration {
+
+    @Comment("One of H2, MYSQL, MARIADB or POSTGRESQL")
+    private DatabaseType type = DatabaseType.H2;
+
+    @Comment("Full JDBC url, overrides the type specific url built from host, port and database when set")
+    private @Nullable String url = null;
+
+    private String host = "localhost";
+
+    @Comment("Defaults to the type's standard port, 3306 for MySQL and MariaDB and 5432 for PostgreSQL")
+    private @Nullable Integer port = null;
+
+    private String database = "tickets";
+    private String username = "tickets";
+    private String password = "";
+
+    @Comment("How creator and assignee UUIDs are stored, TEXT or BINARY. Switching to BINARY migrates existing data, PostgreSQL needs TEXT")
+    private UuidStorage uuidStorage = UuidStorage.TEXT;
+
+    @Comment("EAGER loads action histories with every ticket, LAZY only once they are read")
+    private ActionLoading actionLoading = ActionLoading.EAGER;
+
+    @Comment("Ticket lookups by id are split into chunks of at most this many ids")
+    private int selectChunkSize = 1000;
+
+    @Comment("Chunks fetched concurrently per lookup, each on its own pooled connection")
+    private int selectParallelism = 4;
+
+    private Pool pool = new Pool();
+    private StatementCache statementCache = new StatementCache();
+
+    public @NonNull DatabaseType type() {
+        return this.type;
+    }
+
+    public @NonNull String jdbcUrl() {
+        return this.url == null ? this.type.jdbcUrl(this) : this.url;
+    }
+
+    public @NonNull String host() {
+        return this.host;
+    }
+
+    public int port() {
+        return this.port == null ? this.type.defaultPort() : this.port;
+    }
+
+    public @NonNull String database() {
+        return this.database;
+    }
+
+    public @NonNull String username() {
+        return this.username;
+    }
+
+    public @NonNull String password() {
+        return this.password;
+    }
+
+    public @NonNull UuidStorage uuidStorage() {
+        return this.uuidStorage;
+    }
+
+    public @NonNull ActionLoading actionLoading() {
+        return this.actionLoading;
+    }
+
+    public int selectChunkSize() {
+        return this.selectChunkSize;
+    }
+
+    public int selectParallelism() {
+        return this.selectParallelism;
+    }
+
+    public @NonNull Pool pool() {
+        return this.pool;
+    }
+
+    public @NonNull StatementCache statementCache() {
+        return this.statementCache;
+    }
+
+    @ConfigSerializable
+    public static final class Pool {
+
+        @Comment("Hikari recommends a fixed size pool, keep minimum-idle equal to maximum-pool-size unless idle connections are costly")
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 10;
+
+        @Comment("How long a caller waits for a connection before failing")
+        private long connectionTimeoutMillis = 5_000;
+        private long idleTimeoutMillis = 600_000;
+
+        @Comment("Keep this a few seconds below the server's wait_timeout")
+        private long maxLifetimeMillis = 1_800_000;
+        private long keepaliveTimeMillis = 0;
+
+        @Comment("Log connections held longer than this, 0 disables leak detection")
+        private long leakDetectionThresholdMillis = 0;
+
+        public int maximumPoolSize() {
+            return this.maximumPoolSize;
+        }
+
+        public int minimumIdle() {
+            return this.minimumIdle;
+        }
+
+        public long connectionTimeoutMillis() {
+            return this.connectionTimeoutMillis;
+        }
+
+        public long idleTimeoutMillis() {
+            return this.idleTimeoutMillis;
+        }
+
+        public long maxLifetimeMillis() {
+            return this.maxLifetimeMillis;
+        }
+
+        public long keepaliveTimeMillis() {
+            return this.keepaliveTimeMillis;
+        }
+
+        public long leakDetectionThresholdMillis() {
+            return this.leakDetectionThresholdMillis;
+        }
+
+    }
+
+    @ConfigSerializable
+    public static final class StatementCache {
+
+        @Comment("Cache prepared statements per connection")
+        private boolean enabled = true;
+
+        @Comment("Statements cached per connection")
+        private int size = 250;
+
+        @Comment("Longest statement, in characters, the MySQL driver will cache")
+        private int sqlLimit = 2048;
+
+        @Comment("Use server side prepared statements on MySQL and MariaDB")
+        private boolean serverSide = true;
+
+        public boolean enabled() {
+            return this.enabled;
+        }
+
+        public int size() {
+            return this.size;
+        }
+
+        public int sqlLimit() {
+            return this.sqlLimit;
+        }
+
+        public boolean serverSide() {
+            return this.serverSide;
+        }
+
+    }
+
+}
@@ -0,0 +1,102 @@
+package love.broccolai.tickets.core.database;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.service.DatabaseStorageService;
+import love.broccolai.tickets.core.storage.ChunkedFetch;
+import love.broccolai.tickets.core.storage.SqlDialect;
+import love.broccolai.tickets.core.storage.UuidStorage;
+import love.broccolai.tickets.core.utilities.DatabaseExecutor;
+import love.broccolai.tickets.core.utilities.TicketsJdbiPlugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.flywaydb.core.Flyway;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.SqlStatements;
+
+/**
+ * Provides the pooled {@link Jdbi} instance, migrated to the latest schema, and the database backed {@link StorageService}.
+ *
+ * <p>The {@link ConnectionPool} and the {@link ChunkedFetch} threads are singletons owned by the injector, close both on shutdown.</p>
+ */
+public final class DatabaseModule extends AbstractModule {
+
+    private final DatabaseConfiguration configuration;
+
+    public DatabaseModule(final @NonNull DatabaseConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    protected void configure() {
+        this.bind(DatabaseConfiguration.class).toInstance(this.configuration);
+    }
+
+    @Provides
+    @Singleton
+    public ConnectionPool connectionPool() {
+        return new ConnectionPool(this.configuration);
+    }
+
+    @Provides
+    @Singleton
+    public Jdbi jdbi(final ConnectionPool pool, final DatabaseExecutor executor) {
+        SqlDialect dialect = this.configuration.type().dialect();
+        UuidStorage uuidStorage = this.configuration.uuidStorage();
+
+        if (dialect == SqlDialect.POSTGRESQL && uuidStorage != UuidStorage.TEXT) {
+            throw new IllegalStateException("PostgreSQL stores UUIDs in native uuid columns, uuid-storage must be TEXT");
+        }
+
+        uuidStorage.configure(Flyway.configure(this.getClass().getClassLoader()))
+                .dataSource(pool.dataSource())
+                .locations(dialect.migrations())
+                .load()
+                .migrate();
+
+        Jdbi jdbi = Jdbi.create(pool.dataSource()).installPlugin(new TicketsJdbiPlugin(uuidStorage, dialect));
+
+        // statements outliving the executor's timeout are cancelled by the driver, releasing their executor permit
+        Duration timeout = executor.timeout();
+        jdbi.getConfig(SqlStatements.class).setQueryTimeout(Math.toIntExact(timeout.plusMillis(999).toSeconds()));
+
+        return jdbi;
+    }
+
+    @Provides
+    @Singleton
+    public ChunkedFetch chunkedFetch() {
+        int parallelism = Math.min(this.configuration.selectParallelism(), this.configuration.pool().maximumPoolSize());
+        AtomicInteger counter = new AtomicInteger();
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                60,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "tickets-select-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+
+                    return thread;
+                }
+        );
+        executor.allowCoreThreadTimeOut(true);
+
+        return new ChunkedFetch(this.configuration.selectChunkSize(), parallelism, executor);
+    }
+
+    @Provides
+    @Singleton
+    public StorageService storageService(final Jdbi jdbi, final ChunkedFetch chunkedFetch) {
+        return new DatabaseStorageService(jdbi, this.configuration.actionLoading(), chunkedFetch);
+    }
+
+}
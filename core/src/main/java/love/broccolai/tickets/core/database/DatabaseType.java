@@ -0,0 +1,97 @@
+package love.broccolai.tickets.core.database;
+
+import java.util.Map;
+import love.broccolai.tickets.core.storage.SqlDialect;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Supported database servers, each knowing its JDBC url and the driver properties used for statement caching
+ * and result streaming.
+ */
+public enum DatabaseType {
+    H2(SqlDialect.H2, 9092) {
+        @Override
+        public @NonNull String jdbcUrl(final @NonNull DatabaseConfiguration configuration) {
+            return "jdbc:h2:./" + configuration.database() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+        }
+
+        @Override
+        public @NonNull Map<String, String> dataSourceProperties(final DatabaseConfiguration.@NonNull StatementCache cache) {
+            return Map.of("QUERY_CACHE_SIZE", Integer.toString(cache.enabled() ? cache.size() : 0));
+        }
+    },
+    MYSQL(SqlDialect.MYSQL, 3306) {
+        @Override
+        public @NonNull String jdbcUrl(final @NonNull DatabaseConfiguration configuration) {
+            return "jdbc:mysql://" + configuration.host() + ":" + configuration.port() + "/" + configuration.database();
+        }
+
+        @Override
+        public @NonNull Map<String, String> dataSourceProperties(final DatabaseConfiguration.@NonNull StatementCache cache) {
+            return Map.of(
+                    "cachePrepStmts", Boolean.toString(cache.enabled()),
+                    "prepStmtCacheSize", Integer.toString(cache.size()),
+                    "prepStmtCacheSqlLimit", Integer.toString(cache.sqlLimit()),
+                    "useServerPrepStmts", Boolean.toString(cache.serverSide()),
+                    "rewriteBatchedStatements", "true",
+                    "cacheResultSetMetadata", "true",
+                    "cacheServerConfiguration", "true",
+                    "elideSetAutoCommits", "true",
+                    "maintainTimeStats", "false",
+                    // without it Connector/J ignores setFetchSize and buffers whole results, it also implies server side statements
+                    "useCursorFetch", "true"
+            );
+        }
+    },
+    MARIADB(SqlDialect.MARIADB, 3306) {
+        @Override
+        public @NonNull String jdbcUrl(final @NonNull DatabaseConfiguration configuration) {
+            return "jdbc:mariadb://" + configuration.host() + ":" + configuration.port() + "/" + configuration.database();
+        }
+
+        @Override
+        public @NonNull Map<String, String> dataSourceProperties(final DatabaseConfiguration.@NonNull StatementCache cache) {
+            return Map.of(
+                    "cachePrepStmts", Boolean.toString(cache.enabled()),
+                    "prepStmtCacheSize", Integer.toString(cache.size()),
+                    "useServerPrepStmts", Boolean.toString(cache.serverSide()),
+                    "useBulkStmts", "true"
+            );
+        }
+    },
+    POSTGRESQL(SqlDialect.POSTGRESQL, 5432) {
+        @Override
+        public @NonNull String jdbcUrl(final @NonNull DatabaseConfiguration configuration) {
+            return "jdbc:postgresql://" + configuration.host() + ":" + configuration.port() + "/" + configuration.database();
+        }
+
+        @Override
+        public @NonNull Map<String, String> dataSourceProperties(final DatabaseConfiguration.@NonNull StatementCache cache) {
+            return Map.of(
+                    "prepareThreshold", cache.serverSide() ? "1" : "0",
+                    "preparedStatementCacheQueries", Integer.toString(cache.enabled() ? cache.size() : 0),
+                    "reWriteBatchedInserts", "true"
+            );
+        }
+    };
+
+    private final SqlDialect dialect;
+    private final int defaultPort;
+
+    DatabaseType(final @NonNull SqlDialect dialect, final int defaultPort) {
+        this.dialect = dialect;
+        this.defaultPort = defaultPort;
+    }
+
+    public @NonNull SqlDialect dialect() {
+        return this.dialect;
+    }
+
+    public int defaultPort() {
+        return this.defaultPort;
+    }
+
+    public abstract @NonNull String jdbcUrl(@NonNull DatabaseConfiguration configuration);
+
+    public abstract @NonNull Map<String, String> dataSourceProperties(DatabaseConfiguration.@NonNull StatementCache cache);
+}
@@ -0,0 +1,19 @@
+package love.broccolai.tickets.core.database;
+
+import java.time.Duration;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Point in time view of the connection pool, wait times cover every acquisition since the pool started.
+ */
+public record PoolMetrics(
+        int activeConnections,
+        int idleConnections,
+        int totalConnections,
+        int threadsAwaitingConnection,
+        long acquisitions,
+        @NonNull Duration averageWait,
+        @NonNull Duration maximumWait,
+        long timeouts
+) {
+}
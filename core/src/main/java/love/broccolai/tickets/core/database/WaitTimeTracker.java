@@ -0,0 +1,42 @@
+package love.broccolai.tickets.core.database;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+final class WaitTimeTracker implements IMetricsTracker {
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maximumWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder timeouts = new LongAdder();
+
+    @Override
+    public void recordConnectionAcquiredNanos(final long elapsedAcquiredNanos) {
+        this.acquisitions.increment();
+        this.waitNanos.add(elapsedAcquiredNanos);
+        this.maximumWaitNanos.accumulate(elapsedAcquiredNanos);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        this.timeouts.increment();
+    }
+
+    long acquisitions() {
+        return this.acquisitions.sum();
+    }
+
+    long waitNanos() {
+        return this.waitNanos.sum();
+    }
+
+    long maximumWaitNanos() {
+        return this.maximumWaitNanos.get();
+    }
+
+    long timeouts() {
+        return this.timeouts.sum();
+    }
+
+}
@@ -8,7 +8,6 @@ import org.checkerframework.common.returnsreceiver.qual.This;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,6 +20,7 @@ public final class TicketBuilder {
     private final UUID assignee;
     private final String message;
     private final List<Action> actions;
+    private final int version;
 
     public TicketBuilder(
             final int id,
@@ -28,7 +28,8 @@ public final class TicketBuilder {
             final @NonNull UUID creator,
             final @NonNull Instant date,
             final @NonNull UUID assignee,
-            final @NonNull String message
+            final @NonNull String message,
+            final int version
     ) {
         this.id = id;
         this.status = status;
@@ -37,6 +38,7 @@ public final class TicketBuilder {
         this.assignee = assignee;
         this.message = message;
         this.actions = new ArrayList<>();
+        this.version = version;
     }
 
     public @This TicketBuilder withAction(final @NonNull Action action) {
@@ -45,6 +47,10 @@ public final class TicketBuilder {
     }
 
     public @NonNull Ticket build() {
+        return this.build(this.actions);
+    }
+
+    public @NonNull Ticket build(final @NonNull List<Action> actions) {
         return new Ticket(
                 this.id,
                 this.status,
@@ -52,7 +58,8 @@ public final class TicketBuilder {
                 this.date,
                 this.assignee,
                 this.message,
-                Collections.unmodifiableList(this.actions)
+                actions,
+                this.version
         );
     }
 
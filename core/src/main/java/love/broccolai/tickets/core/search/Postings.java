@@ -0,0 +1,93 @@
+package love.broccolai.tickets.core.search;
+
+import java.util.Arrays;
+
+/**
+ * Term frequencies of one term, keyed by document ordinal. Documents are stored densely in the order they first
+ * contained the term, with an open addressing table to find a document's entry when it is re-indexed. Entries of
+ * documents that no longer contain the term stay behind with a frequency of zero.
+ */
+final class Postings {
+
+    private int[] documents = new int[4];
+    private int[] frequencies = new int[4];
+    private int size;
+    private int documentCount;
+
+    // entry position + 1 per slot, 0 marks an empty slot
+    private int[] table = new int[8];
+
+    void add(final int document, final int frequency) {
+        int slot = this.slot(document);
+        int position = this.table[slot] - 1;
+
+        if (position >= 0) {
+            int previous = this.frequencies[position];
+            this.frequencies[position] = previous + frequency;
+
+            if (previous == 0 || previous + frequency == 0) {
+                this.documentCount += previous == 0 ? 1 : -1;
+            }
+
+            return;
+        }
+
+        if (this.size == this.documents.length) {
+            this.grow();
+            slot = this.slot(document);
+        }
+
+        this.documents[this.size] = document;
+        this.frequencies[this.size] = frequency;
+        this.table[slot] = ++this.size;
+        this.documentCount++;
+    }
+
+    /**
+     * Number of documents currently containing the term.
+     */
+    int documentCount() {
+        return this.documentCount;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    int documentAt(final int index) {
+        return this.documents[index];
+    }
+
+    int frequencyAt(final int index) {
+        return this.frequencies[index];
+    }
+
+    private int slot(final int document) {
+        int mask = this.table.length - 1;
+        int hash = document * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+
+        while (true) {
+            int position = this.table[slot] - 1;
+
+            if (position < 0 || this.documents[position] == document) {
+                return slot;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        int capacity = this.documents.length * 2;
+
+        this.documents = Arrays.copyOf(this.documents, capacity);
+        this.frequencies = Arrays.copyOf(this.frequencies, capacity);
+        this.table = new int[capacity * 2];
+
+        for (int i = 0; i < this.size; i++) {
+            this.table[this.slot(this.documents[i])] = i + 1;
+        }
+    }
+
+}
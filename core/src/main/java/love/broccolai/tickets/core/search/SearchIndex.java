@@ -0,0 +1,242 @@
+package love.broccolai.tickets.core.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import love.broccolai.tickets.api.collection.IntObjectMap;
+import love.broccolai.tickets.api.model.SearchFilter;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.api.model.action.CloseAction;
+import love.broccolai.tickets.api.model.action.EditAction;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * In memory inverted index over ticket and action messages, ranked with BM25.
+ *
+ * <p>Each ticket is one document made of its message and the messages of its actions. Documents are numbered by
+ * ordinal in the order they were first indexed, lengths and filter fields are kept in arrays by ordinal so scoring
+ * and filtering walk flat memory. Indexing a ticket again replaces its document.</p>
+ */
+public final class SearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> terms = new HashMap<>();
+    private final IntObjectMap<Document> documents = new IntObjectMap<>();
+    private long totalLength;
+
+    private int[] lengths = new int[16];
+    private byte[] statuses = new byte[16];
+    private long[] dates = new long[16];
+    private @Nullable UUID[] assignees = new UUID[16];
+
+    public void index(final @NonNull Ticket ticket) {
+        Map<String, int[]> frequencies = Tokenizer.frequencies(text(ticket));
+
+        this.lock.writeLock().lock();
+
+        try {
+            Document document = this.documents.get(ticket.id());
+
+            if (document == null) {
+                document = new Document(this.documents.size());
+                this.documents.put(ticket.id(), document);
+                this.ensureCapacity(document.ordinal + 1);
+            } else {
+                for (int i = 0; i < document.terms.length; i++) {
+                    this.terms.get(document.terms[i]).add(document.ordinal, -document.frequencies[i]);
+                }
+
+                this.totalLength -= this.lengths[document.ordinal];
+            }
+
+            int ordinal = document.ordinal;
+            int index = 0;
+            int length = 0;
+
+            document.terms = new String[frequencies.size()];
+            document.frequencies = new int[frequencies.size()];
+
+            for (final Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+                int frequency = entry.getValue()[0];
+
+                this.terms.computeIfAbsent(entry.getKey(), term -> new Postings()).add(ordinal, frequency);
+                document.terms[index] = entry.getKey();
+                document.frequencies[index++] = frequency;
+                length += frequency;
+            }
+
+            this.lengths[ordinal] = length;
+            this.statuses[ordinal] = (byte) ticket.status().ordinal();
+            this.dates[ordinal] = ticket.date().getEpochSecond();
+            this.assignees[ordinal] = ticket.assignee().orElse(null);
+            this.totalLength += length;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the {@code limit} best matching tickets, best first. Tickets matching more query terms, rarer terms and
+     * terms more often relative to their length rank higher.
+     */
+    public int @NonNull [] search(final @NonNull String query, final @NonNull SearchFilter filter, final int limit) {
+        Map<String, int[]> queryTerms = Tokenizer.frequencies(query);
+
+        this.lock.readLock().lock();
+
+        try {
+            int documentCount = this.documents.size();
+
+            if (documentCount == 0 || limit <= 0) {
+                return new int[0];
+            }
+
+            double averageLength = Math.max(1, (double) this.totalLength / documentCount);
+            double lengthWeight = K1 * B / averageLength;
+            boolean filtered = !filter.equals(SearchFilter.any());
+
+            double[] scores = new double[documentCount];
+            int[] matched = new int[16];
+            int matchedCount = 0;
+
+            for (final String term : queryTerms.keySet()) {
+                Postings postings = this.terms.get(term);
+
+                if (postings == null || postings.documentCount() == 0) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (documentCount - postings.documentCount() + 0.5) / (postings.documentCount() + 0.5));
+
+                for (int i = 0; i < postings.size(); i++) {
+                    int frequency = postings.frequencyAt(i);
+                    int ordinal = postings.documentAt(i);
+
+                    if (frequency == 0 || scores[ordinal] < 0) {
+                        continue;
+                    }
+
+                    if (scores[ordinal] == 0) {
+                        if (filtered && !this.matches(ordinal, filter)) {
+                            scores[ordinal] = -1;
+                            continue;
+                        }
+
+                        if (matchedCount == matched.length) {
+                            matched = Arrays.copyOf(matched, matchedCount * 2);
+                        }
+
+                        matched[matchedCount++] = ordinal;
+                    }
+
+                    double norm = K1 * (1 - B) + lengthWeight * this.lengths[ordinal];
+                    scores[ordinal] += idf * frequency * (K1 + 1) / (frequency + norm);
+                }
+            }
+
+            PriorityQueue<Integer> best = new PriorityQueue<>(Comparator.comparingDouble(ordinal -> scores[ordinal]));
+
+            for (int i = 0; i < matchedCount; i++) {
+                int ordinal = matched[i];
+
+                if (best.size() < limit) {
+                    best.add(ordinal);
+                } else if (scores[ordinal] > scores[best.peek()]) {
+                    best.poll();
+                    best.add(ordinal);
+                }
+            }
+
+            int[] tickets = new int[best.size()];
+
+            for (int i = tickets.length - 1; i >= 0; i--) {
+                tickets[i] = this.documents.keyAt(best.poll());
+            }
+
+            return tickets;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+
+        try {
+            return this.documents.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private boolean matches(final int ordinal, final SearchFilter filter) {
+        return (filter.status() == null || filter.status().ordinal() == this.statuses[ordinal])
+                && (filter.since() == null || this.dates[ordinal] > filter.since().getEpochSecond())
+                && (filter.assignee() == null || filter.assignee().equals(this.assignees[ordinal]));
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= this.lengths.length) {
+            return;
+        }
+
+        int grown = this.lengths.length * 2;
+
+        this.lengths = Arrays.copyOf(this.lengths, grown);
+        this.statuses = Arrays.copyOf(this.statuses, grown);
+        this.dates = Arrays.copyOf(this.dates, grown);
+        this.assignees = Arrays.copyOf(this.assignees, grown);
+    }
+
+    private static String text(final Ticket ticket) {
+        StringBuilder text = new StringBuilder(ticket.message());
+
+        for (final Action action : ticket.actions()) {
+            String message = message(action);
+
+            if (message != null) {
+                text.append('\n').append(message);
+            }
+        }
+
+        return text.toString();
+    }
+
+    private static @Nullable String message(final Action action) {
+        if (action instanceof EditAction edit) {
+            return edit.message();
+        }
+
+        if (action instanceof CloseAction close) {
+            return close.message();
+        }
+
+        return null;
+    }
+
+    /**
+     * Terms a document was last indexed with, needed to take them back out of the postings when it is re-indexed.
+     */
+    private static final class Document {
+
+        private final int ordinal;
+        private String[] terms = new String[0];
+        private int[] frequencies = new int[0];
+
+        private Document(final int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+    }
+
+}
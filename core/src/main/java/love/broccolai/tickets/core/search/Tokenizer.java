@@ -0,0 +1,42 @@
+package love.broccolai.tickets.core.search;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Splits text into lower case runs of letters and digits. Single characters are dropped and long tokens truncated,
+ * they only bloat the dictionary.
+ */
+final class Tokenizer {
+
+    private static final int MINIMUM_LENGTH = 2;
+    private static final int MAXIMUM_LENGTH = 32;
+
+    private Tokenizer() {
+    }
+
+    static @NonNull Map<String, int[]> frequencies(final @NonNull String text) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        int start = -1;
+
+        for (int i = 0; i <= text.length(); i++) {
+            boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                if (i - start >= MINIMUM_LENGTH) {
+                    String term = text.substring(start, Math.min(i, start + MAXIMUM_LENGTH)).toLowerCase(Locale.ROOT);
+                    frequencies.computeIfAbsent(term, key -> new int[1])[0]++;
+                }
+
+                start = -1;
+            }
+        }
+
+        return frequencies;
+    }
+
+}
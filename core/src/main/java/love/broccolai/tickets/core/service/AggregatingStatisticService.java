@@ -0,0 +1,338 @@
+package love.broccolai.tickets.core.service;
+
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Stream;
+import love.broccolai.tickets.api.event.TicketListener;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketActivity;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.api.model.action.CloseAction;
+import love.broccolai.tickets.api.service.StatisticService;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Keeps hourly running aggregates that are updated as tickets are created, assigned and closed, so
+ * reads never touch storage. Register it as a {@link TicketListener} with
+ * {@link ListeningStorageService} and {@link ListeningModificationService}, then call
+ * {@link #bootstrap()} once.
+ *
+ * <p>Windows are resolved to whole hours and only the last {@code retention} is kept. Like the other statistic
+ * services, lifespans and closes per assignee are taken at a ticket's latest close and time to assign at its
+ * first assignment.</p>
+ */
+public final class AggregatingStatisticService implements StatisticService, TicketListener {
+
+    private static final Duration DEFAULT_RETENTION = Duration.ofDays(30);
+    private static final long SECONDS_PER_HOUR = ChronoUnit.HOURS.getDuration().toSeconds();
+
+    private final StorageService storageService;
+    private final Object bootstrapLock = new Object();
+
+    private volatile AtomicReferenceArray<HourlyAggregate> aggregates;
+    private @Nullable List<Event> buffered;
+
+    @Inject
+    public AggregatingStatisticService(final @NonNull StorageService storageService) {
+        this(storageService, DEFAULT_RETENTION);
+    }
+
+    public AggregatingStatisticService(final @NonNull StorageService storageService, final @NonNull Duration retention) {
+        this.storageService = storageService;
+        this.aggregates = new AtomicReferenceArray<>((int) Math.max(1, retention.toHours()));
+    }
+
+    /**
+     * Rebuilds every aggregate from storage and swaps them in once done. Events arriving meanwhile are buffered and
+     * applied afterwards unless the rebuilt aggregates already include them.
+     *
+     * <p>Closed tickets are streamed in full, a ticket created before the retention can still close inside it.</p>
+     */
+    public synchronized void bootstrap() {
+        synchronized (this.bootstrapLock) {
+            this.buffered = new ArrayList<>();
+        }
+
+        AtomicReferenceArray<HourlyAggregate> aggregates = new AtomicReferenceArray<>(this.aggregates.length());
+        Map<Integer, Integer> replayed = new HashMap<>();
+        boolean loaded = false;
+
+        try {
+            long oldestHour = currentHour() - aggregates.length() + 1;
+            Instant since = Instant.ofEpochSecond(oldestHour * SECONDS_PER_HOUR).minusSeconds(1);
+
+            for (final TicketStatus status : TicketStatus.values()) {
+                Instant createdSince = status == TicketStatus.CLOSED ? null : since;
+
+                try (Stream<Ticket> tickets = this.storageService.streamTickets(status, null, createdSince)) {
+                    tickets.forEach(ticket -> replay(aggregates, ticket, replayed));
+                }
+            }
+
+            loaded = true;
+        } finally {
+            synchronized (this.bootstrapLock) {
+                AtomicReferenceArray<HourlyAggregate> target = loaded ? aggregates : this.aggregates;
+
+                for (final Event event : this.buffered) {
+                    if (!loaded || !event.replayedIn(replayed)) {
+                        event.applyTo(target);
+                    }
+                }
+
+                this.aggregates = target;
+                this.buffered = null;
+            }
+        }
+    }
+
+    @Override
+    public void ticketCreated(final @NonNull Ticket ticket) {
+        if (!this.buffer(ticket, null)) {
+            record(this.aggregates, ticket);
+        }
+    }
+
+    @Override
+    public void actionApplied(final @NonNull Ticket ticket, final @NonNull Action action) {
+        if (!this.buffer(ticket, action)) {
+            record(this.aggregates, ticket, action);
+        }
+    }
+
+    @Override
+    public Duration averageTicketsLifespan(final @NonNull Duration duration) {
+        long seconds = 0;
+        long count = 0;
+
+        for (final HourlyAggregate aggregate : this.window(duration)) {
+            seconds += aggregate.lifespanSeconds();
+            count += aggregate.lifespans();
+        }
+
+        return average(seconds, count);
+    }
+
+    @Override
+    public Duration ticketsLifespanPercentile(final @NonNull Duration duration, final double percentile) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be in (0, 1]: " + percentile);
+        }
+
+        long[] histogram = new long[HourlyAggregate.HISTOGRAM_SIZE];
+        long total = 0;
+
+        for (final HourlyAggregate aggregate : this.window(duration)) {
+            aggregate.addHistogramTo(histogram);
+            total += aggregate.lifespans();
+        }
+
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+
+            if (seen > 0 && seen >= rank) {
+                return Duration.ofSeconds(HourlyAggregate.histogramValue(i));
+            }
+        }
+
+        return Duration.ZERO;
+    }
+
+    @Override
+    public Duration averageTimeToFirstAssign(final @NonNull Duration duration) {
+        long seconds = 0;
+        long count = 0;
+
+        for (final HourlyAggregate aggregate : this.window(duration)) {
+            seconds += aggregate.firstAssignSeconds();
+            count += aggregate.firstAssigns();
+        }
+
+        return average(seconds, count);
+    }
+
+    @Override
+    public List<TicketActivity> hourlyTicketActivity(final @NonNull Duration duration) {
+        HourlyActivity activity = new HourlyActivity(duration);
+        long originHour = hour(activity.origin());
+
+        for (final HourlyAggregate aggregate : this.window(duration)) {
+            activity.add(aggregate.hour() - originHour, aggregate.opened(), aggregate.closed());
+        }
+
+        return activity.toList();
+    }
+
+    @Override
+    public Map<UUID, Long> closedTicketsPerAssignee(final @NonNull Duration duration) {
+        Map<UUID, Long> result = new HashMap<>();
+
+        for (final HourlyAggregate aggregate : this.window(duration)) {
+            aggregate.addClosedPerAssigneeTo(result);
+        }
+
+        return result;
+    }
+
+    private boolean buffer(final Ticket ticket, final @Nullable Action action) {
+        synchronized (this.bootstrapLock) {
+            if (this.buffered == null) {
+                return false;
+            }
+
+            // listeners are notified right after the action is appended, so it is the last one
+            this.buffered.add(new Event(ticket, action, action == null ? -1 : ticket.actions().size() - 1));
+            return true;
+        }
+    }
+
+    private static void replay(
+            final AtomicReferenceArray<HourlyAggregate> aggregates,
+            final Ticket ticket,
+            final Map<Integer, Integer> replayed
+    ) {
+        boolean recorded = record(aggregates, ticket);
+
+        for (final Action action : ticket.actions()) {
+            recorded |= record(aggregates, ticket, action);
+        }
+
+        if (recorded) {
+            replayed.put(ticket.id(), ticket.actions().size());
+        }
+    }
+
+    private static boolean record(final AtomicReferenceArray<HourlyAggregate> aggregates, final Ticket ticket) {
+        HourlyAggregate aggregate = aggregate(aggregates, hour(ticket.date()));
+
+        if (aggregate == null) {
+            return false;
+        }
+
+        aggregate.recordOpened();
+        return true;
+    }
+
+    private static boolean record(final AtomicReferenceArray<HourlyAggregate> aggregates, final Ticket ticket, final Action action) {
+        boolean recorded = false;
+
+        if (action instanceof CloseAction) {
+            HourlyAggregate closed = aggregate(aggregates, hour(action.date()));
+            HourlyAggregate created = aggregate(aggregates, hour(ticket.date()));
+
+            if (closed != null) {
+                closed.recordClosed();
+                recorded = true;
+            }
+
+            if (created != null) {
+                Duration lifespan = Duration.between(ticket.date(), action.date());
+
+                created.recordClose(ticket.id(), action.date(), lifespan, ticket.assignee().orElse(null));
+                recorded = true;
+            }
+        } else if (action instanceof AssignAction) {
+            HourlyAggregate created = aggregate(aggregates, hour(ticket.date()));
+
+            if (created != null) {
+                created.recordAssign(ticket.id(), action.date(), Duration.between(ticket.date(), action.date()));
+                recorded = true;
+            }
+        }
+
+        return recorded;
+    }
+
+    private static @Nullable HourlyAggregate aggregate(final AtomicReferenceArray<HourlyAggregate> aggregates, final long hour) {
+        long current = currentHour();
+
+        if (hour > current || hour <= current - aggregates.length()) {
+            return null;
+        }
+
+        int index = Math.floorMod(hour, aggregates.length());
+
+        while (true) {
+            HourlyAggregate aggregate = aggregates.get(index);
+
+            if (aggregate != null && aggregate.hour() == hour) {
+                return aggregate;
+            }
+
+            if (aggregate != null && aggregate.hour() > hour) {
+                return null;
+            }
+
+            HourlyAggregate created = new HourlyAggregate(hour);
+
+            if (aggregates.compareAndSet(index, aggregate, created)) {
+                return created;
+            }
+        }
+    }
+
+    private List<HourlyAggregate> window(final Duration duration) {
+        AtomicReferenceArray<HourlyAggregate> aggregates = this.aggregates;
+        long current = currentHour();
+        long oldest = Math.max(hour(TimeUtilities.now().minus(duration)), current - aggregates.length() + 1);
+
+        return Stream.iterate(oldest, hour -> hour <= current, hour -> hour + 1)
+                .map(hour -> aggregates.get(Math.floorMod(hour, aggregates.length())))
+                .filter(aggregate -> aggregate != null && aggregate.hour() >= oldest && aggregate.hour() <= current)
+                .toList();
+    }
+
+    private static Duration average(final long seconds, final long count) {
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+
+        return Duration.ofMillis(Math.round(seconds * 1000D / count));
+    }
+
+    private static long currentHour() {
+        return hour(TimeUtilities.now());
+    }
+
+    private static long hour(final Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_HOUR);
+    }
+
+    /**
+     * A live event seen while bootstrapping, {@code index} is the position of its action in the ticket's history.
+     */
+    private record Event(Ticket ticket, @Nullable Action action, int index) {
+
+        boolean replayedIn(final Map<Integer, Integer> replayed) {
+            Integer actions = replayed.get(this.ticket.id());
+
+            return actions != null && (this.action == null || this.index < actions);
+        }
+
+        void applyTo(final AtomicReferenceArray<HourlyAggregate> aggregates) {
+            if (this.action == null) {
+                record(aggregates, this.ticket);
+            } else {
+                record(aggregates, this.ticket, this.action);
+            }
+        }
+
+    }
+
+}
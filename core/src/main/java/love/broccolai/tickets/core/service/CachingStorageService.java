@@ -0,0 +1,218 @@
+package love.broccolai.tickets.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import love.broccolai.tickets.api.collection.IntObjectMap;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketDraft;
+import love.broccolai.tickets.api.model.TicketPage;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.service.StorageService;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public final class CachingStorageService implements StorageService {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final Duration DEFAULT_EXPIRE_AFTER_ACCESS = Duration.ofMinutes(15);
+
+    private final StorageService delegate;
+    private final Cache<Integer, Ticket> cache;
+
+    public CachingStorageService(final @NonNull StorageService delegate) {
+        this(delegate, DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRE_AFTER_ACCESS);
+    }
+
+    public CachingStorageService(
+            final @NonNull StorageService delegate,
+            final long maximumSize,
+            final @NonNull Duration expireAfterAccess
+    ) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public @NonNull Ticket createTicket(final @NonNull UUID creator, final @NonNull String message) {
+        Ticket ticket = this.delegate.createTicket(creator, message);
+        this.cache.put(ticket.id(), ticket);
+
+        return ticket;
+    }
+
+    @Override
+    public @NonNull List<@NonNull Ticket> createTickets(final @NonNull Collection<@NonNull TicketDraft> drafts) {
+        List<Ticket> tickets = this.delegate.createTickets(drafts);
+
+        for (final Ticket ticket : tickets) {
+            this.cache.put(ticket.id(), ticket);
+        }
+
+        return tickets;
+    }
+
+    @Override
+    public void saveTicket(final @NonNull Ticket ticket) {
+        try {
+            this.delegate.saveTicket(ticket);
+        } catch (final RuntimeException e) {
+            this.cache.invalidate(ticket.id());
+            throw e;
+        }
+
+        this.cache.put(ticket.id(), ticket);
+    }
+
+    @Override
+    public void saveTickets(final @NonNull Collection<@NonNull Ticket> tickets) {
+        try {
+            this.delegate.saveTickets(tickets);
+        } catch (final RuntimeException e) {
+            for (final Ticket ticket : tickets) {
+                this.cache.invalidate(ticket.id());
+            }
+            throw e;
+        }
+
+        for (final Ticket ticket : tickets) {
+            this.cache.put(ticket.id(), ticket);
+        }
+    }
+
+    @Override
+    public @NonNull Ticket selectTicket(final int id) {
+        return this.cache.get(id, this.delegate::selectTicket);
+    }
+
+    @Override
+    public @NonNull IntObjectMap<@NonNull Ticket> selectTickets(final int... ids) {
+        IntObjectMap<Ticket> tickets = new IntObjectMap<>(ids.length);
+        int[] missing = new int[ids.length];
+        int missingCount = 0;
+
+        for (final int id : ids) {
+            Ticket ticket = this.cache.getIfPresent(id);
+
+            if (ticket != null) {
+                tickets.put(id, ticket);
+            } else {
+                missing[missingCount++] = id;
+            }
+        }
+
+        if (missingCount == 0) {
+            return tickets;
+        }
+
+        IntObjectMap<Ticket> loaded = this.delegate.selectTickets(Arrays.copyOf(missing, missingCount));
+        IntObjectMap<Ticket> result = new IntObjectMap<>(ids.length);
+
+        for (final int id : ids) {
+            Ticket ticket = tickets.get(id);
+
+            if (ticket == null) {
+                ticket = loaded.get(id);
+
+                if (ticket == null) {
+                    continue;
+                }
+
+                ticket = this.shared(ticket, true);
+            }
+
+            result.put(id, ticket);
+        }
+
+        return result;
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Ticket> findTickets(
+            final @NonNull TicketStatus status,
+            final @Nullable UUID assignee,
+            final @Nullable Instant since
+    ) {
+        return this.shared(this.delegate.findTickets(status, assignee, since));
+    }
+
+    @Override
+    public @NonNull TicketPage findTickets(
+            final @NonNull TicketStatus status,
+            final @Nullable UUID assignee,
+            final @Nullable Instant since,
+            final int after,
+            final int limit
+    ) {
+        TicketPage page = this.delegate.findTickets(status, assignee, since, after, limit);
+        return new TicketPage(this.shared(page.tickets()), page.hasNext());
+    }
+
+    @Override
+    public @NonNull Stream<@NonNull Ticket> streamTickets(
+            final @NonNull TicketStatus status,
+            final @Nullable UUID assignee,
+            final @Nullable Instant since
+    ) {
+        return this.delegate.streamTickets(status, assignee, since)
+                .map(ticket -> this.shared(ticket, false));
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Ticket> findTicketsByCreator(final @NonNull UUID creator, final @NonNull TicketStatus status) {
+        return this.shared(this.delegate.findTicketsByCreator(creator, status));
+    }
+
+    @Override
+    public @NonNull Map<@NonNull UUID, @NonNull Integer> countTicketsByCreator(final @NonNull TicketStatus status) {
+        return this.delegate.countTicketsByCreator(status);
+    }
+
+    public void invalidate(final int id) {
+        this.cache.invalidate(id);
+    }
+
+    public @NonNull CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    private List<Ticket> shared(final Collection<Ticket> tickets) {
+        List<Ticket> result = new ArrayList<>(tickets.size());
+
+        for (final Ticket ticket : tickets) {
+            result.add(this.shared(ticket, false));
+        }
+
+        return result;
+    }
+
+    /**
+     * Resolves a loaded ticket to the instance readers should share: the cached one unless the loaded copy is newer, in which
+     * case it replaces the cached entry. Only point lookups {@code populate} the cache, bulk reads never evict the hot set.
+     */
+    private Ticket shared(final Ticket loaded, final boolean populate) {
+        Ticket result = this.cache.asMap().compute(loaded.id(), (id, cached) -> {
+            if (cached == null) {
+                return populate ? loaded : null;
+            }
+
+            return cached.version() >= loaded.version() ? cached : loaded;
+        });
+
+        return result == null ? loaded : result;
+    }
+
+}
@@ -3,8 +3,10 @@ package love.broccolai.tickets.core.service;
 import broccolai.corn.core.Lists;
 import com.google.inject.Inject;
 import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketActivity;
 import love.broccolai.tickets.api.model.TicketStatus;
 import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.api.model.action.AssignAction;
 import love.broccolai.tickets.api.model.action.CloseAction;
 import love.broccolai.tickets.api.service.StatisticService;
 import love.broccolai.tickets.api.service.StorageService;
@@ -12,7 +14,13 @@ import love.broccolai.tickets.core.utilities.TimeUtilities;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 public final class CalculatingStatisticService implements StatisticService {
 
@@ -30,6 +38,10 @@ public final class CalculatingStatisticService implements StatisticService {
         Collection<Ticket> closedTickets = this.storageService.findTickets(TicketStatus.CLOSED, null, since);
         Collection<Duration> ticketLifespans = Lists.map(closedTickets, this::calculateAverageTicketLifespan);
 
+        if (ticketLifespans.isEmpty()) {
+            return Duration.ZERO;
+        }
+
         Duration result = Duration.ZERO;
 
         for (final Duration lifespan : ticketLifespans) {
@@ -39,6 +51,85 @@ public final class CalculatingStatisticService implements StatisticService {
         return result.dividedBy(ticketLifespans.size());
     }
 
+    @Override
+    public Duration ticketsLifespanPercentile(final @NonNull Duration duration, final double percentile) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be in (0, 1]: " + percentile);
+        }
+
+        Instant since = TimeUtilities.nowTruncated().minus(duration);
+
+        Collection<Ticket> closedTickets = this.storageService.findTickets(TicketStatus.CLOSED, null, since);
+        List<Duration> ticketLifespans = new ArrayList<>(Lists.map(closedTickets, this::calculateAverageTicketLifespan));
+
+        if (ticketLifespans.isEmpty()) {
+            return Duration.ZERO;
+        }
+
+        ticketLifespans.sort(null);
+
+        int rank = (int) Math.ceil(percentile * ticketLifespans.size());
+        return ticketLifespans.get(Math.max(rank, 1) - 1);
+    }
+
+    @Override
+    public Duration averageTimeToFirstAssign(final @NonNull Duration duration) {
+        Instant since = TimeUtilities.nowTruncated().minus(duration);
+
+        Duration result = Duration.ZERO;
+        int assignedTickets = 0;
+
+        for (final TicketStatus status : TicketStatus.values()) {
+            for (final Ticket ticket : this.storageService.findTickets(status, null, since)) {
+                Optional<Action> assignAction = ticket.actions().stream()
+                        .filter(action -> action instanceof AssignAction)
+                        .findFirst();
+
+                if (assignAction.isPresent()) {
+                    result = result.plus(Duration.between(ticket.date(), assignAction.get().date()));
+                    assignedTickets++;
+                }
+            }
+        }
+
+        if (assignedTickets == 0) {
+            return Duration.ZERO;
+        }
+
+        return result.dividedBy(assignedTickets);
+    }
+
+    @Override
+    public List<TicketActivity> hourlyTicketActivity(final @NonNull Duration duration) {
+        HourlyActivity activity = new HourlyActivity(duration);
+
+        for (final TicketStatus status : TicketStatus.values()) {
+            for (final Ticket ticket : this.storageService.findTickets(status, null, null)) {
+                activity.opened(ticket.date());
+
+                for (final Action action : ticket.actions()) {
+                    if (action instanceof CloseAction) {
+                        activity.closed(action.date());
+                    }
+                }
+            }
+        }
+
+        return activity.toList();
+    }
+
+    @Override
+    public Map<UUID, Long> closedTicketsPerAssignee(final @NonNull Duration duration) {
+        Instant since = TimeUtilities.nowTruncated().minus(duration);
+        Map<UUID, Long> result = new HashMap<>();
+
+        for (final Ticket ticket : this.storageService.findTickets(TicketStatus.CLOSED, null, since)) {
+            ticket.assignee().ifPresent(assignee -> result.merge(assignee, 1L, Long::sum));
+        }
+
+        return result;
+    }
+
     private Duration calculateAverageTicketLifespan(final @NonNull Ticket ticket) {
         Action closeAction = Lists.last(
                 ticket.actions(),
@@ -0,0 +1,120 @@
+package love.broccolai.tickets.core.service;
+
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import love.broccolai.tickets.api.model.TicketActivity;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.service.StatisticService;
+import love.broccolai.tickets.core.storage.DialectConfig;
+import love.broccolai.tickets.core.storage.SqlDialect;
+import love.broccolai.tickets.core.utilities.Query;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.generic.GenericType;
+
+public final class DatabaseStatisticService implements StatisticService {
+
+    private static final GenericType<Map<UUID, Long>> ASSIGNEE_COUNTS = new GenericType<>() {
+    };
+
+    private final Jdbi jdbi;
+    private final SqlDialect dialect;
+
+    @Inject
+    public DatabaseStatisticService(final @NonNull Jdbi jdbi) {
+        this.jdbi = jdbi;
+        this.dialect = jdbi.getConfig(DialectConfig.class).dialect();
+    }
+
+    @Override
+    public Duration averageTicketsLifespan(final @NonNull Duration duration) {
+        Instant since = TimeUtilities.nowTruncated().minus(duration);
+
+        Double seconds = this.jdbi.withHandle(handle -> {
+            return handle.createQuery(Query.AVERAGE_LIFESPAN.sql(this.dialect))
+                    .bind("status", TicketStatus.CLOSED)
+                    .bind("since", since)
+                    .mapTo(Double.class)
+                    .one();
+        });
+
+        return seconds(seconds);
+    }
+
+    @Override
+    public Duration ticketsLifespanPercentile(final @NonNull Duration duration, final double percentile) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be in (0, 1]: " + percentile);
+        }
+
+        Instant since = TimeUtilities.nowTruncated().minus(duration);
+
+        Double seconds = this.jdbi.withHandle(handle -> {
+            return handle.createQuery(Query.LIFESPAN_PERCENTILE.sql(this.dialect))
+                    .bind("status", TicketStatus.CLOSED)
+                    .bind("since", since)
+                    .bind("percentile", percentile)
+                    .mapTo(Double.class)
+                    .one();
+        });
+
+        return seconds(seconds);
+    }
+
+    @Override
+    public Duration averageTimeToFirstAssign(final @NonNull Duration duration) {
+        Instant since = TimeUtilities.nowTruncated().minus(duration);
+
+        Double seconds = this.jdbi.withHandle(handle -> {
+            return handle.createQuery(Query.AVERAGE_FIRST_ASSIGN.sql(this.dialect))
+                    .bind("since", since)
+                    .mapTo(Double.class)
+                    .one();
+        });
+
+        return seconds(seconds);
+    }
+
+    @Override
+    public List<TicketActivity> hourlyTicketActivity(final @NonNull Duration duration) {
+        HourlyActivity activity = new HourlyActivity(duration);
+
+        return this.jdbi.withHandle(handle -> {
+            return handle.createQuery(Query.HOURLY_ACTIVITY.sql(this.dialect))
+                    .bind("origin", activity.origin())
+                    .reduceResultSet(activity, (result, rs, ctx) -> {
+                        result.add(rs.getLong("bucket"), rs.getLong("opened"), rs.getLong("closed"));
+                        return result;
+                    });
+        }).toList();
+    }
+
+    @Override
+    public Map<UUID, Long> closedTicketsPerAssignee(final @NonNull Duration duration) {
+        Instant since = TimeUtilities.nowTruncated().minus(duration);
+
+        return this.jdbi.withHandle(handle -> {
+            return handle.createQuery(Query.CLOSED_PER_ASSIGNEE.sql(this.dialect))
+                    .bind("status", TicketStatus.CLOSED)
+                    .bind("since", since)
+                    .setMapKeyColumn("assignee")
+                    .setMapValueColumn("closed")
+                    .collectInto(ASSIGNEE_COUNTS);
+        });
+    }
+
+    private static Duration seconds(final @Nullable Double seconds) {
+        if (seconds == null) {
+            return Duration.ZERO;
+        }
+
+        return Duration.ofMillis(Math.round(seconds * 1000));
+    }
+
+}
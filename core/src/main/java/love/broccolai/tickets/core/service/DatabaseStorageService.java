@@ -3,86 +3,207 @@ package love.broccolai.tickets.core.service;
 import com.google.common.primitives.Ints;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.sql.Statement;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import love.broccolai.tickets.api.collection.IntObjectMap;
 import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketDraft;
+import love.broccolai.tickets.api.model.TicketPage;
 import love.broccolai.tickets.api.model.TicketStatus;
 import love.broccolai.tickets.api.model.action.Action;
 import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.api.service.TicketConflictException;
+import love.broccolai.tickets.core.model.TicketBuilder;
+import love.broccolai.tickets.core.storage.ActionLoader;
+import love.broccolai.tickets.core.storage.ActionLoading;
+import love.broccolai.tickets.core.storage.ChunkedFetch;
 import love.broccolai.tickets.core.storage.DelegatingActionMapper;
+import love.broccolai.tickets.core.storage.DialectConfig;
+import love.broccolai.tickets.core.storage.SqlDialect;
 import love.broccolai.tickets.core.storage.TicketAccumulator;
-import love.broccolai.tickets.core.utilities.QueriesLocator;
+import love.broccolai.tickets.core.storage.TicketFilter;
+import love.broccolai.tickets.core.storage.TicketHeaderMapper;
+import love.broccolai.tickets.core.storage.TicketIterator;
+import love.broccolai.tickets.core.storage.TicketRow;
+import love.broccolai.tickets.core.storage.TicketRowMapper;
+import love.broccolai.tickets.core.utilities.Query;
 import love.broccolai.tickets.core.utilities.TimeUtilities;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.generic.GenericType;
+import org.jdbi.v3.core.result.ResultIterator;
 import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.core.statement.SqlStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 @Singleton
 public final class DatabaseStorageService implements StorageService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseStorageService.class);
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final GenericType<Map<UUID, Integer>> CREATOR_COUNTS = new GenericType<>() {
+    };
+
     private final DelegatingActionMapper actionMapper = new DelegatingActionMapper();
-    private final QueriesLocator locator = new QueriesLocator();
 
     private final Jdbi jdbi;
+    private final SqlDialect dialect;
+    private final ActionLoading actionLoading;
+    private final ChunkedFetch chunkedFetch;
+
+    // MariaDB's bulk protocol never reports per statement update counts, so it starts out saving tickets one by one
+    private volatile boolean batchCompareAndSet;
 
     @Inject
     public DatabaseStorageService(final @NonNull Jdbi jdbi) {
+        this(jdbi, ActionLoading.EAGER);
+    }
+
+    public DatabaseStorageService(final @NonNull Jdbi jdbi, final @NonNull ActionLoading actionLoading) {
+        this(jdbi, actionLoading, ChunkedFetch.serial(ChunkedFetch.DEFAULT_CHUNK_SIZE));
+    }
+
+    public DatabaseStorageService(
+            final @NonNull Jdbi jdbi,
+            final @NonNull ActionLoading actionLoading,
+            final @NonNull ChunkedFetch chunkedFetch
+    ) {
         this.jdbi = jdbi;
+        this.dialect = jdbi.getConfig(DialectConfig.class).dialect();
+        this.actionLoading = actionLoading;
+        this.chunkedFetch = chunkedFetch;
+        this.batchCompareAndSet = this.dialect != SqlDialect.MARIADB;
     }
 
     @Override
     public @NonNull Ticket createTicket(final @NonNull UUID creator, final @NonNull String message) {
         Instant timestamp = TimeUtilities.nowTruncated();
 
-        return this.jdbi.withHandle(handle -> {
-            List<String> queries = this.locator.queries("insert-ticket");
-
-            handle.createUpdate(queries.get(0))
+        int id = this.jdbi.withHandle(handle -> {
+            return handle.createUpdate(Query.INSERT_TICKET.sql(this.dialect))
+                    .bind("status", TicketStatus.OPEN)
                     .bind("creator", creator)
                     .bind("date", timestamp)
+                    .bindByType("assignee", null, UUID.class)
                     .bind("message", message)
-                    .execute();
+                    .executeAndReturnGeneratedKeys("id")
+                    .mapTo(Integer.class)
+                    .one();
+        });
+
+        return new Ticket(id, TicketStatus.OPEN, creator, timestamp, null, message, new ArrayList<>());
+    }
+
+    @Override
+    public @NonNull List<@NonNull Ticket> createTickets(final @NonNull Collection<@NonNull TicketDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return List.of();
+        }
+
+        List<Integer> ids = this.jdbi.inTransaction(handle -> {
+            PreparedBatch batch = handle.prepareBatch(Query.INSERT_TICKET.sql(this.dialect));
 
-            int id = handle.createQuery(queries.get(1))
+            for (final TicketDraft draft : drafts) {
+                batch.bind("status", draft.status())
+                        .bind("creator", draft.creator())
+                        .bind("date", draft.date())
+                        .bindByType("assignee", draft.assignee(), UUID.class)
+                        .bind("message", draft.message())
+                        .add();
+            }
+
+            List<Integer> generated = batch.executePreparedBatch("id")
                     .mapTo(Integer.class)
-                    .first();
+                    .list();
+
+            if (generated.size() != drafts.size()) {
+                throw new IllegalStateException("Expected " + drafts.size() + " generated ids but the driver returned " + generated.size());
+            }
 
-            return new Ticket(id, TicketStatus.OPEN, creator, timestamp, null, message, new ArrayList<>());
+            return generated;
         });
+
+        List<Ticket> tickets = new ArrayList<>(drafts.size());
+        int index = 0;
+
+        for (final TicketDraft draft : drafts) {
+            tickets.add(new Ticket(
+                    ids.get(index++),
+                    draft.status(),
+                    draft.creator(),
+                    draft.date(),
+                    draft.assignee(),
+                    draft.message(),
+                    new ArrayList<>()
+            ));
+        }
+
+        return tickets;
     }
 
     @Override
     public void saveTicket(final @NonNull Ticket ticket) {
-        this.jdbi.useHandle(handle -> {
-            handle.createUpdate(this.locator.query("save-ticket"))
-                    .bind("id", ticket.id())
-                    .bind("status", ticket.status())
-                    .bind("assignee", ticket.assignee())
-                    .bind("message", ticket.message())
-                    .execute();
-
-            PreparedBatch batch = handle.prepareBatch(this.locator.query("insert-action"));
-
-            for (final Action action : ticket.actions()) {
-                String identifier = this.actionMapper.typeIdentifier(action);
-                Map<String, ?> bindables = this.actionMapper.bindables(action);
-
-                batch.bind("ticket", ticket.id())
-                        .bind("type", identifier)
-                        .bind("date", action.date())
-                        .bindMap(bindables)
-                        .add();
+        List<Action> pendingActions = ticket.pendingActions();
+
+        this.jdbi.useTransaction(handle -> {
+            if (this.bindTicket(handle.createUpdate(Query.SAVE_TICKET.sql(this.dialect)), ticket).execute() == 0) {
+                throw new TicketConflictException(Set.of(ticket.id()));
+            }
+
+            if (pendingActions.isEmpty()) {
+                return;
+            }
+
+            PreparedBatch batch = handle.prepareBatch(Query.INSERT_ACTION.sql(this.dialect));
+
+            for (final Action action : pendingActions) {
+                this.bindAction(batch, ticket, action).add();
             }
 
             batch.execute();
         });
+
+        ticket.markSaved(pendingActions.size());
+    }
+
+    @Override
+    public void saveTickets(final @NonNull Collection<@NonNull Ticket> tickets) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+
+        List<Ticket> batchTickets = List.copyOf(tickets);
+        int[] savedActions = new int[batchTickets.size()];
+
+        if (this.batchCompareAndSet) {
+            try {
+                this.writeTickets(batchTickets, savedActions, true);
+            } catch (final UnknownUpdateCountException e) {
+                LOGGER.warn("The JDBC driver does not report update counts for batches, saving tickets one statement at a time");
+                this.batchCompareAndSet = false;
+                this.writeTickets(batchTickets, savedActions, false);
+            }
+        } else {
+            this.writeTickets(batchTickets, savedActions, false);
+        }
+
+        for (int index = 0; index < savedActions.length; index++) {
+            batchTickets.get(index).markSaved(savedActions[index]);
+        }
     }
 
     @Override
@@ -91,29 +212,255 @@ public final class DatabaseStorageService implements StorageService {
     }
 
     @Override
-    public @NonNull Map<@NonNull Integer, @NonNull Ticket> selectTickets(final int... ids) {
+    public @NonNull IntObjectMap<@NonNull Ticket> selectTickets(final int... ids) {
+        return this.chunkedFetch.fetch(ids, this::selectChunk);
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Ticket> findTickets(
+            final @NonNull TicketStatus status,
+            final @Nullable UUID assignee,
+            final @Nullable Instant since
+    ) {
+        TicketFilter filter = new TicketFilter(status, assignee, since);
+
+        if (this.actionLoading == ActionLoading.LAZY) {
+            return this.jdbi.withHandle(handle -> {
+                return filter.bind(handle.createQuery(Query.FIND_TICKET_HEADERS.sql(this.dialect)))
+                        .map(new TicketHeaderMapper(this.actionLoader()))
+                        .list();
+            });
+        }
+
         return this.jdbi.withHandle(handle -> {
-            return handle.createQuery(this.locator.query("select-tickets"))
-                    .bindList("ids", Ints.asList(ids))
-                    .reduceRows(new TicketAccumulator())
-                    .collect(Collectors.toMap(Ticket::id, Function.identity()));
+            IntObjectMap<TicketBuilder> builders = filter.bind(handle.createQuery(Query.FIND_TICKETS.sql(this.dialect)))
+                    .reduceResultSet(new IntObjectMap<>(), new TicketAccumulator());
+
+            return TicketAccumulator.ticketList(builders);
         });
     }
 
     @Override
-    public @NonNull Collection<@NonNull Ticket> findTickets(
+    public @NonNull TicketPage findTickets(
+            final @NonNull TicketStatus status,
+            final @Nullable UUID assignee,
+            final @Nullable Instant since,
+            final int after,
+            final int limit
+    ) {
+        TicketFilter filter = new TicketFilter(status, assignee, since);
+        List<Ticket> tickets = this.jdbi.withHandle(handle -> {
+            if (this.actionLoading == ActionLoading.LAZY) {
+                return filter.bind(handle.createQuery(Query.FIND_TICKET_HEADERS_PAGE.sql(this.dialect)))
+                        .bind("after", after)
+                        .bind("limit", limit + 1)
+                        .map(new TicketHeaderMapper(this.actionLoader()))
+                        .list();
+            }
+
+            IntObjectMap<TicketBuilder> builders = filter.bind(handle.createQuery(Query.FIND_TICKETS_PAGE.sql(this.dialect)))
+                    .bind("after", after)
+                    .bind("limit", limit + 1)
+                    .reduceResultSet(new IntObjectMap<>(limit + 1), new TicketAccumulator());
+
+            return TicketAccumulator.ticketList(builders);
+        });
+
+        if (tickets.size() <= limit) {
+            return new TicketPage(tickets, false);
+        }
+
+        return new TicketPage(List.copyOf(tickets.subList(0, limit)), true);
+    }
+
+    @Override
+    public @NonNull Stream<@NonNull Ticket> streamTickets(
             final @NonNull TicketStatus status,
             final @Nullable UUID assignee,
             final @Nullable Instant since
     ) {
+        TicketFilter filter = new TicketFilter(status, assignee, since);
+        Handle handle = this.jdbi.open();
+
+        try {
+            if (this.dialect.cursorNeedsTransaction()) {
+                handle.begin();
+            }
+
+            ResultIterator<TicketRow> rows = filter.bind(handle.createQuery(Query.FIND_TICKETS.sql(this.dialect)))
+                    .setFetchSize(STREAM_FETCH_SIZE)
+                    .map(new TicketRowMapper())
+                    .iterator();
+
+            Spliterator<Ticket> tickets = Spliterators.spliteratorUnknownSize(
+                    new TicketIterator(rows),
+                    Spliterator.ORDERED | Spliterator.NONNULL
+            );
+
+            return StreamSupport.stream(tickets, false).onClose(() -> {
+                rows.close();
+                release(handle);
+            });
+        } catch (final RuntimeException e) {
+            release(handle);
+            throw e;
+        }
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Ticket> findTicketsByCreator(final @NonNull UUID creator, final @NonNull TicketStatus status) {
+        TicketFilter filter = new TicketFilter(status, null, null, creator);
+
+        if (this.actionLoading == ActionLoading.LAZY) {
+            return this.jdbi.withHandle(handle -> {
+                return filter.bind(handle.createQuery(Query.FIND_TICKET_HEADERS.sql(this.dialect)))
+                        .map(new TicketHeaderMapper(this.actionLoader()))
+                        .list();
+            });
+        }
+
         return this.jdbi.withHandle(handle -> {
-            return handle.createQuery(this.locator.query("find-tickets"))
+            IntObjectMap<TicketBuilder> builders = filter.bind(handle.createQuery(Query.FIND_TICKETS.sql(this.dialect)))
+                    .reduceResultSet(new IntObjectMap<>(), new TicketAccumulator());
+
+            return TicketAccumulator.ticketList(builders);
+        });
+    }
+
+    @Override
+    public @NonNull Map<@NonNull UUID, @NonNull Integer> countTicketsByCreator(final @NonNull TicketStatus status) {
+        return this.jdbi.withHandle(handle -> {
+            return handle.createQuery(Query.COUNT_TICKETS_BY_CREATOR.sql(this.dialect))
                     .bind("status", status)
-                    .bind("assignee", assignee)
-                    .bind("since", since)
-                    .reduceRows(new TicketAccumulator())
-                    .toList();
+                    .setMapKeyColumn("creator")
+                    .setMapValueColumn("tickets")
+                    .collectInto(CREATOR_COUNTS);
+        });
+    }
+
+    private IntObjectMap<Ticket> selectChunk(final int[] ids) {
+        if (this.actionLoading == ActionLoading.LAZY) {
+            return this.jdbi.withHandle(handle -> {
+                return handle.createQuery(Query.SELECT_TICKET_HEADERS.sql(this.dialect))
+                        .bindList("ids", Ints.asList(ids))
+                        .map(new TicketHeaderMapper(this.actionLoader()))
+                        .reduce(new IntObjectMap<>(ids.length), (tickets, ticket) -> {
+                            tickets.put(ticket.id(), ticket);
+                            return tickets;
+                        });
+            });
+        }
+
+        return this.jdbi.withHandle(handle -> {
+            IntObjectMap<TicketBuilder> builders = handle.createQuery(Query.SELECT_TICKETS.sql(this.dialect))
+                    .bindList("ids", Ints.asList(ids))
+                    .reduceResultSet(new IntObjectMap<>(ids.length), new TicketAccumulator());
+
+            return TicketAccumulator.tickets(builders);
+        });
+    }
+
+    private ActionLoader actionLoader() {
+        return new ActionLoader(tickets -> this.chunkedFetch.fetch(tickets, this::selectActions), this.chunkedFetch.chunkSize());
+    }
+
+    private IntObjectMap<List<Action>> selectActions(final int[] tickets) {
+        return this.jdbi.withHandle(handle -> {
+            return handle.createQuery(Query.SELECT_ACTIONS.sql(this.dialect))
+                    .bindList("ids", Ints.asList(tickets))
+                    .reduceRows(new IntObjectMap<List<Action>>(tickets.length), (actions, row) -> {
+                        int ticket = row.getColumn("ticket", Integer.class);
+                        List<Action> ticketActions = actions.get(ticket);
+
+                        if (ticketActions == null) {
+                            ticketActions = new ArrayList<>();
+                            actions.put(ticket, ticketActions);
+                        }
+
+                        ticketActions.add(row.getRow(Action.class));
+                        return actions;
+                    });
         });
     }
 
+    private void writeTickets(final List<Ticket> tickets, final int[] savedActions, final boolean batched) {
+        this.jdbi.useTransaction(handle -> {
+            PreparedBatch ticketBatch = handle.prepareBatch(Query.SAVE_TICKET.sql(this.dialect));
+            PreparedBatch actionBatch = handle.prepareBatch(Query.INSERT_ACTION.sql(this.dialect));
+            int[] updated = new int[tickets.size()];
+
+            for (int index = 0; index < updated.length; index++) {
+                Ticket ticket = tickets.get(index);
+                List<Action> pendingActions = ticket.pendingActions();
+
+                if (batched) {
+                    this.bindTicket(ticketBatch, ticket).add();
+                } else {
+                    updated[index] = this.bindTicket(handle.createUpdate(Query.SAVE_TICKET.sql(this.dialect)), ticket).execute();
+                }
+
+                for (final Action action : pendingActions) {
+                    this.bindAction(actionBatch, ticket, action).add();
+                }
+
+                savedActions[index] = pendingActions.size();
+            }
+
+            if (batched) {
+                updated = ticketBatch.execute();
+            }
+
+            Set<Integer> conflicts = new HashSet<>();
+
+            for (int index = 0; index < updated.length; index++) {
+                // a rewritten batch may only report SUCCESS_NO_INFO, that hides a lost compare-and-set, roll back and redo it unbatched
+                if (updated[index] == Statement.SUCCESS_NO_INFO) {
+                    throw new UnknownUpdateCountException();
+                }
+
+                if (updated[index] == 0) {
+                    conflicts.add(tickets.get(index).id());
+                }
+            }
+
+            if (!conflicts.isEmpty()) {
+                throw new TicketConflictException(conflicts);
+            }
+
+            if (actionBatch.size() > 0) {
+                actionBatch.execute();
+            }
+        });
+    }
+
+    private static void release(final Handle handle) {
+        try (handle) {
+            if (handle.isInTransaction()) {
+                handle.rollback();
+            }
+        }
+    }
+
+    private <S extends SqlStatement<S>> S bindTicket(final S statement, final Ticket ticket) {
+        return statement.bind("id", ticket.id())
+                .bind("version", ticket.version())
+                .bind("status", ticket.status())
+                .bind("assignee", ticket.assignee())
+                .bind("message", ticket.message());
+    }
+
+    private PreparedBatch bindAction(final PreparedBatch batch, final Ticket ticket, final Action action) {
+        return this.actionMapper.bind(batch, action)
+                .bind("ticket", ticket.id())
+                .bind("date", action.date());
+    }
+
+    private static final class UnknownUpdateCountException extends RuntimeException {
+
+        UnknownUpdateCountException() {
+            super(null, null, false, false);
+        }
+
+    }
+
 }
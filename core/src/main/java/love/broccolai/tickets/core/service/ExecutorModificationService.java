@@ -0,0 +1,57 @@
+package love.broccolai.tickets.core.service;
+
+import com.google.inject.Inject;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.api.model.action.CloseAction;
+import love.broccolai.tickets.api.model.action.EditAction;
+import love.broccolai.tickets.api.service.AsyncModificationService;
+import love.broccolai.tickets.api.service.ModificationService;
+import love.broccolai.tickets.core.utilities.DatabaseExecutor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public final class ExecutorModificationService implements AsyncModificationService {
+
+    private final ModificationService modificationService;
+    private final DatabaseExecutor executor;
+
+    @Inject
+    public ExecutorModificationService(
+            final @NonNull ModificationService modificationService,
+            final @NonNull DatabaseExecutor executor
+    ) {
+        this.modificationService = modificationService;
+        this.executor = executor;
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull CloseAction> close(
+            final @NonNull Ticket ticket,
+            final @NonNull UUID creator,
+            final @Nullable String message
+    ) {
+        return this.executor.supply(() -> this.modificationService.close(ticket, creator, message));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull EditAction> edit(
+            final @NonNull Ticket ticket,
+            final @NonNull UUID creator,
+            final @NonNull String message
+    ) {
+        return this.executor.supply(() -> this.modificationService.edit(ticket, creator, message));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull AssignAction> assign(
+            final @NonNull Ticket ticket,
+            final @NonNull UUID creator,
+            final @NonNull UUID assignee
+    ) {
+        return this.executor.supply(() -> this.modificationService.assign(ticket, creator, assignee));
+    }
+
+}
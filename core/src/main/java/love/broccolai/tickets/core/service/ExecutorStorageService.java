@@ -0,0 +1,99 @@
+package love.broccolai.tickets.core.service;
+
+import com.google.inject.Inject;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import love.broccolai.tickets.api.collection.IntObjectMap;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketDraft;
+import love.broccolai.tickets.api.model.TicketPage;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.service.AsyncStorageService;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.utilities.DatabaseExecutor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public final class ExecutorStorageService implements AsyncStorageService {
+
+    private final StorageService storageService;
+    private final DatabaseExecutor executor;
+
+    @Inject
+    public ExecutorStorageService(final @NonNull StorageService storageService, final @NonNull DatabaseExecutor executor) {
+        this.storageService = storageService;
+        this.executor = executor;
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull Ticket> createTicket(final @NonNull UUID creator, final @NonNull String message) {
+        return this.executor.supply(() -> this.storageService.createTicket(creator, message));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull List<@NonNull Ticket>> createTickets(
+            final @NonNull Collection<@NonNull TicketDraft> drafts
+    ) {
+        return this.executor.supply(() -> this.storageService.createTickets(drafts));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Void> saveTicket(final @NonNull Ticket ticket) {
+        return this.executor.run(() -> this.storageService.saveTicket(ticket));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Void> saveTickets(final @NonNull Collection<@NonNull Ticket> tickets) {
+        return this.executor.run(() -> this.storageService.saveTickets(tickets));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull Ticket> selectTicket(final int id) {
+        return this.executor.supply(() -> this.storageService.selectTicket(id));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull IntObjectMap<@NonNull Ticket>> selectTickets(final int... ids) {
+        return this.executor.supply(() -> this.storageService.selectTickets(ids));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull Collection<@NonNull Ticket>> findTickets(
+            final @NonNull TicketStatus status,
+            final @Nullable UUID assignee,
+            final @Nullable Instant since
+    ) {
+        return this.executor.supply(() -> this.storageService.findTickets(status, assignee, since));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull TicketPage> findTickets(
+            final @NonNull TicketStatus status,
+            final @Nullable UUID assignee,
+            final @Nullable Instant since,
+            final int after,
+            final int limit
+    ) {
+        return this.executor.supply(() -> this.storageService.findTickets(status, assignee, since, after, limit));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull Collection<@NonNull Ticket>> findTicketsByCreator(
+            final @NonNull UUID creator,
+            final @NonNull TicketStatus status
+    ) {
+        return this.executor.supply(() -> this.storageService.findTicketsByCreator(creator, status));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull Map<@NonNull UUID, @NonNull Integer>> countTicketsByCreator(
+            final @NonNull TicketStatus status
+    ) {
+        return this.executor.supply(() -> this.storageService.countTicketsByCreator(status));
+    }
+
+}
@@ -0,0 +1,61 @@
+package love.broccolai.tickets.core.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import love.broccolai.tickets.api.model.TicketActivity;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+final class HourlyActivity {
+
+    private final Instant origin;
+    private final long[] opened;
+    private final long[] closed;
+
+    HourlyActivity(final @NonNull Duration duration) {
+        int hours = (int) Math.max(1, duration.toHours());
+
+        this.origin = TimeUtilities.now().truncatedTo(ChronoUnit.HOURS).minus(hours - 1, ChronoUnit.HOURS);
+        this.opened = new long[hours];
+        this.closed = new long[hours];
+    }
+
+    @NonNull Instant origin() {
+        return this.origin;
+    }
+
+    void opened(final @NonNull Instant date) {
+        this.add(this.bucket(date), 1, 0);
+    }
+
+    void closed(final @NonNull Instant date) {
+        this.add(this.bucket(date), 0, 1);
+    }
+
+    void add(final long bucket, final long opened, final long closed) {
+        if (bucket < 0 || bucket >= this.opened.length) {
+            return;
+        }
+
+        this.opened[(int) bucket] += opened;
+        this.closed[(int) bucket] += closed;
+    }
+
+    @NonNull List<@NonNull TicketActivity> toList() {
+        List<TicketActivity> result = new ArrayList<>(this.opened.length);
+
+        for (int i = 0; i < this.opened.length; i++) {
+            result.add(new TicketActivity(this.origin.plus(i, ChronoUnit.HOURS), this.opened[i], this.closed[i]));
+        }
+
+        return result;
+    }
+
+    private long bucket(final Instant date) {
+        return Math.floorDiv(Duration.between(this.origin, date).toSeconds(), ChronoUnit.HOURS.getDuration().toSeconds());
+    }
+
+}
@@ -0,0 +1,183 @@
+package love.broccolai.tickets.core.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Running totals for tickets created (or, for {@link #closed()}, closed) during one hour.
+ *
+ * <p>Lifespans and closes per assignee keep one sample per ticket, taken at its latest close, so closing a ticket
+ * again replaces its earlier sample. Time to assign likewise keeps one sample per ticket, its earliest assignment.</p>
+ *
+ * <p>Lifespans are additionally recorded in a log-linear histogram: 16 linear sub-buckets per power
+ * of two, so percentiles read from it are within about 3% of the exact value.</p>
+ */
+final class HourlyAggregate {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 35;
+
+    static final int HISTOGRAM_SIZE = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final long hour;
+
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+    private final LongAdder lifespanSeconds = new LongAdder();
+    private final LongAdder lifespans = new LongAdder();
+    private final LongAdder firstAssignSeconds = new LongAdder();
+    private final LongAdder firstAssigns = new LongAdder();
+    private final AtomicLongArray lifespanHistogram = new AtomicLongArray(HISTOGRAM_SIZE);
+    private final Map<UUID, LongAdder> closedPerAssignee = new ConcurrentHashMap<>();
+    private final Map<Integer, CloseSample> closeSamples = new ConcurrentHashMap<>();
+    private final Map<Integer, AssignSample> assignSamples = new ConcurrentHashMap<>();
+
+    HourlyAggregate(final long hour) {
+        this.hour = hour;
+    }
+
+    long hour() {
+        return this.hour;
+    }
+
+    void recordOpened() {
+        this.opened.increment();
+    }
+
+    void recordClosed() {
+        this.closed.increment();
+    }
+
+    void recordClose(final int ticket, final @NonNull Instant date, final @NonNull Duration lifespan, final @Nullable UUID assignee) {
+        CloseSample sample = new CloseSample(date, lifespan.toSeconds(), assignee);
+
+        while (true) {
+            CloseSample previous = this.closeSamples.putIfAbsent(ticket, sample);
+
+            if (previous == null) {
+                this.add(sample, 1);
+                return;
+            }
+
+            if (previous.date().isAfter(date)) {
+                return;
+            }
+
+            if (this.closeSamples.replace(ticket, previous, sample)) {
+                this.add(previous, -1);
+                this.add(sample, 1);
+                return;
+            }
+        }
+    }
+
+    void recordAssign(final int ticket, final @NonNull Instant date, final @NonNull Duration delay) {
+        AssignSample sample = new AssignSample(date, delay.toSeconds());
+
+        while (true) {
+            AssignSample previous = this.assignSamples.putIfAbsent(ticket, sample);
+
+            if (previous == null) {
+                this.firstAssignSeconds.add(sample.delaySeconds());
+                this.firstAssigns.increment();
+                return;
+            }
+
+            if (!previous.date().isAfter(date)) {
+                return;
+            }
+
+            if (this.assignSamples.replace(ticket, previous, sample)) {
+                this.firstAssignSeconds.add(sample.delaySeconds() - previous.delaySeconds());
+                return;
+            }
+        }
+    }
+
+    long opened() {
+        return this.opened.sum();
+    }
+
+    long closed() {
+        return this.closed.sum();
+    }
+
+    long lifespanSeconds() {
+        return this.lifespanSeconds.sum();
+    }
+
+    long lifespans() {
+        return this.lifespans.sum();
+    }
+
+    long firstAssignSeconds() {
+        return this.firstAssignSeconds.sum();
+    }
+
+    long firstAssigns() {
+        return this.firstAssigns.sum();
+    }
+
+    void addHistogramTo(final long @NonNull [] histogram) {
+        for (int i = 0; i < HISTOGRAM_SIZE; i++) {
+            histogram[i] += this.lifespanHistogram.get(i);
+        }
+    }
+
+    void addClosedPerAssigneeTo(final @NonNull Map<UUID, Long> result) {
+        this.closedPerAssignee.forEach((assignee, count) -> {
+            long closed = count.sum();
+
+            if (closed > 0) {
+                result.merge(assignee, closed, Long::sum);
+            }
+        });
+    }
+
+    private void add(final CloseSample sample, final int sign) {
+        this.lifespanSeconds.add(sign * sample.lifespanSeconds());
+        this.lifespans.add(sign);
+        this.lifespanHistogram.addAndGet(histogramIndex(sample.lifespanSeconds()), sign);
+
+        if (sample.assignee() != null) {
+            this.closedPerAssignee.computeIfAbsent(sample.assignee(), key -> new LongAdder()).add(sign);
+        }
+    }
+
+    static int histogramIndex(final long seconds) {
+        if (seconds < SUB_BUCKETS) {
+            return (int) Math.max(seconds, 0);
+        }
+
+        int exponent = Math.min(63 - Long.numberOfLeadingZeros(seconds), MAX_EXPONENT);
+        int subBucket = (int) ((seconds >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long histogramValue(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+
+        return lowerBound + (1L << shift) / 2;
+    }
+
+    private record AssignSample(@NonNull Instant date, long delaySeconds) {
+    }
+
+    private record CloseSample(@NonNull Instant date, long lifespanSeconds, @Nullable UUID assignee) {
+    }
+
+}
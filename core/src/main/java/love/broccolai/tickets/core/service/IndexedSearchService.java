@@ -0,0 +1,79 @@
+package love.broccolai.tickets.core.service;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import love.broccolai.tickets.api.collection.IntObjectMap;
+import love.broccolai.tickets.api.event.TicketListener;
+import love.broccolai.tickets.api.model.SearchFilter;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.api.service.SearchService;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.search.SearchIndex;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Searches an in memory {@link SearchIndex}, kept current by registering this service as a {@link TicketListener}
+ * with {@link ListeningStorageService} and {@link ListeningModificationService}. {@link #rebuild()} indexes every
+ * stored ticket and should run once on startup.
+ */
+@Singleton
+public final class IndexedSearchService implements SearchService, TicketListener {
+
+    private final StorageService storageService;
+    private final SearchIndex index = new SearchIndex();
+
+    @Inject
+    public IndexedSearchService(final @NonNull StorageService storageService) {
+        this.storageService = storageService;
+    }
+
+    @Override
+    public @NonNull List<@NonNull Ticket> searchTickets(final @NonNull String query, final @NonNull SearchFilter filter, final int limit) {
+        int[] ids = this.index.search(query, filter, limit);
+
+        if (ids.length == 0) {
+            return List.of();
+        }
+
+        IntObjectMap<Ticket> tickets = this.storageService.selectTickets(ids);
+        List<Ticket> ranked = new ArrayList<>(ids.length);
+
+        for (final int id : ids) {
+            Ticket ticket = tickets.get(id);
+
+            if (ticket != null) {
+                ranked.add(ticket);
+            }
+        }
+
+        return ranked;
+    }
+
+    public void rebuild() {
+        for (final TicketStatus status : TicketStatus.values()) {
+            try (Stream<Ticket> tickets = this.storageService.streamTickets(status, null, null)) {
+                tickets.forEach(this.index::index);
+            }
+        }
+    }
+
+    public int indexedTickets() {
+        return this.index.size();
+    }
+
+    @Override
+    public void ticketCreated(final @NonNull Ticket ticket) {
+        this.index.index(ticket);
+    }
+
+    @Override
+    public void actionApplied(final @NonNull Ticket ticket, final @NonNull Action action) {
+        this.index.index(ticket);
+    }
+
+}
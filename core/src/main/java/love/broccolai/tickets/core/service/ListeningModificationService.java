@@ -0,0 +1,76 @@
+package love.broccolai.tickets.core.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import love.broccolai.tickets.api.event.TicketListener;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.api.model.action.CloseAction;
+import love.broccolai.tickets.api.model.action.EditAction;
+import love.broccolai.tickets.api.service.ModificationService;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class ListeningModificationService implements ModificationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ListeningModificationService.class);
+
+    private final ModificationService delegate;
+    private final List<TicketListener> listeners;
+
+    public ListeningModificationService(
+            final @NonNull ModificationService delegate,
+            final @NonNull Collection<@NonNull TicketListener> listeners
+    ) {
+        this.delegate = delegate;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public @NonNull CloseAction close(
+            final @NonNull Ticket ticket,
+            final @NonNull UUID creator,
+            final @Nullable String message
+    ) {
+        TicketStatus previousStatus = ticket.status();
+        return this.notify(ticket, previousStatus, this.delegate.close(ticket, creator, message));
+    }
+
+    @Override
+    public @NonNull EditAction edit(
+            final @NonNull Ticket ticket,
+            final @NonNull UUID creator,
+            final @NonNull String message
+    ) {
+        TicketStatus previousStatus = ticket.status();
+        return this.notify(ticket, previousStatus, this.delegate.edit(ticket, creator, message));
+    }
+
+    @Override
+    public @NonNull AssignAction assign(
+            final @NonNull Ticket ticket,
+            final @NonNull UUID creator,
+            final @NonNull UUID assignee
+    ) {
+        TicketStatus previousStatus = ticket.status();
+        return this.notify(ticket, previousStatus, this.delegate.assign(ticket, creator, assignee));
+    }
+
+    private <A extends Action> A notify(final Ticket ticket, final TicketStatus previousStatus, final A action) {
+        for (final TicketListener listener : this.listeners) {
+            try {
+                listener.actionApplied(ticket, action, previousStatus);
+            } catch (final RuntimeException e) {
+                LOGGER.error("Listener {} failed to handle {} on ticket {}", listener, action, ticket.id(), e);
+            }
+        }
+
+        return action;
+    }
+
+}
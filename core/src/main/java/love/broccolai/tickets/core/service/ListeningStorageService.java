@@ -0,0 +1,124 @@
+package love.broccolai.tickets.core.service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import love.broccolai.tickets.api.collection.IntObjectMap;
+import love.broccolai.tickets.api.event.TicketListener;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketDraft;
+import love.broccolai.tickets.api.model.TicketPage;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.service.StorageService;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class ListeningStorageService implements StorageService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ListeningStorageService.class);
+
+    private final StorageService delegate;
+    private final List<TicketListener> listeners;
+
+    public ListeningStorageService(
+            final @NonNull StorageService delegate,
+            final @NonNull Collection<@NonNull TicketListener> listeners
+    ) {
+        this.delegate = delegate;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public @NonNull Ticket createTicket(final @NonNull UUID creator, final @NonNull String message) {
+        Ticket ticket = this.delegate.createTicket(creator, message);
+        this.created(ticket);
+
+        return ticket;
+    }
+
+    @Override
+    public @NonNull List<@NonNull Ticket> createTickets(final @NonNull Collection<@NonNull TicketDraft> drafts) {
+        List<Ticket> tickets = this.delegate.createTickets(drafts);
+
+        for (final Ticket ticket : tickets) {
+            this.created(ticket);
+        }
+
+        return tickets;
+    }
+
+    @Override
+    public void saveTicket(final @NonNull Ticket ticket) {
+        this.delegate.saveTicket(ticket);
+    }
+
+    @Override
+    public void saveTickets(final @NonNull Collection<@NonNull Ticket> tickets) {
+        this.delegate.saveTickets(tickets);
+    }
+
+    @Override
+    public @NonNull Ticket selectTicket(final int id) {
+        return this.delegate.selectTicket(id);
+    }
+
+    @Override
+    public @NonNull IntObjectMap<@NonNull Ticket> selectTickets(final int... ids) {
+        return this.delegate.selectTickets(ids);
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Ticket> findTickets(
+            final @NonNull TicketStatus status,
+            final @Nullable UUID assignee,
+            final @Nullable Instant since
+    ) {
+        return this.delegate.findTickets(status, assignee, since);
+    }
+
+    @Override
+    public @NonNull TicketPage findTickets(
+            final @NonNull TicketStatus status,
+            final @Nullable UUID assignee,
+            final @Nullable Instant since,
+            final int after,
+            final int limit
+    ) {
+        return this.delegate.findTickets(status, assignee, since, after, limit);
+    }
+
+    @Override
+    public @NonNull Stream<@NonNull Ticket> streamTickets(
+            final @NonNull TicketStatus status,
+            final @Nullable UUID assignee,
+            final @Nullable Instant since
+    ) {
+        return this.delegate.streamTickets(status, assignee, since);
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Ticket> findTicketsByCreator(final @NonNull UUID creator, final @NonNull TicketStatus status) {
+        return this.delegate.findTicketsByCreator(creator, status);
+    }
+
+    @Override
+    public @NonNull Map<@NonNull UUID, @NonNull Integer> countTicketsByCreator(final @NonNull TicketStatus status) {
+        return this.delegate.countTicketsByCreator(status);
+    }
+
+    private void created(final Ticket ticket) {
+        for (final TicketListener listener : this.listeners) {
+            try {
+                listener.ticketCreated(ticket);
+            } catch (final RuntimeException e) {
+                LOGGER.error("Listener {} failed to handle creation of ticket {}", listener, ticket.id(), e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package love.broccolai.tickets.core.service;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import love.broccolai.tickets.api.event.TicketListener;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.api.model.action.CloseAction;
+import love.broccolai.tickets.api.service.StorageService;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Open ticket count per creator, answered from memory. Register it as a {@link TicketListener} with
+ * {@link ListeningStorageService} and {@link ListeningModificationService}, then call {@link #bootstrap()} once, which
+ * loads every count with a single grouped query so joins after a restart never query per player.
+ */
+@Singleton
+public final class OpenTicketCounter implements TicketListener {
+
+    private final StorageService storageService;
+    private final Object lock = new Object();
+
+    private volatile Map<UUID, Integer> counts = new ConcurrentHashMap<>();
+    private @Nullable Map<UUID, Integer> deltas;
+
+    @Inject
+    public OpenTicketCounter(final @NonNull StorageService storageService) {
+        this.storageService = storageService;
+    }
+
+    /**
+     * Loads every count into a new map and swaps it in at once, readers keep seeing the previous counts meanwhile.
+     * Changes arriving while the counts load are applied to both maps. A change committed while the grouped query
+     * itself runs may already be part of its result and count twice until the next bootstrap.
+     */
+    public synchronized void bootstrap() {
+        synchronized (this.lock) {
+            this.deltas = new HashMap<>();
+        }
+
+        Map<UUID, Integer> counts = null;
+
+        try {
+            counts = new ConcurrentHashMap<>(this.storageService.countTicketsByCreator(TicketStatus.OPEN));
+        } finally {
+            synchronized (this.lock) {
+                if (counts != null) {
+                    Map<UUID, Integer> loaded = counts;
+
+                    this.deltas.forEach((creator, delta) -> adjust(loaded, creator, delta));
+                    this.counts = loaded;
+                }
+
+                this.deltas = null;
+            }
+        }
+    }
+
+    public int openTickets(final @NonNull UUID creator) {
+        return this.counts.getOrDefault(creator, 0);
+    }
+
+    public boolean hasOpenTickets(final @NonNull UUID creator) {
+        return this.counts.containsKey(creator);
+    }
+
+    @Override
+    public void ticketCreated(final @NonNull Ticket ticket) {
+        if (ticket.status() == TicketStatus.OPEN) {
+            this.adjust(ticket.creator(), 1);
+        }
+    }
+
+    @Override
+    public void actionApplied(final @NonNull Ticket ticket, final @NonNull Action action, final @NonNull TicketStatus previousStatus) {
+        // closing an already closed ticket adds another close action, only the transition out of OPEN leaves the count
+        if (action instanceof CloseAction && previousStatus == TicketStatus.OPEN) {
+            this.adjust(ticket.creator(), -1);
+        }
+    }
+
+    private void adjust(final UUID creator, final int delta) {
+        synchronized (this.lock) {
+            if (this.deltas != null) {
+                this.deltas.merge(creator, delta, Integer::sum);
+            }
+
+            adjust(this.counts, creator, delta);
+        }
+    }
+
+    private static void adjust(final Map<UUID, Integer> counts, final UUID creator, final int delta) {
+        counts.compute(creator, (key, count) -> {
+            int adjusted = (count == null ? 0 : count) + delta;
+            return adjusted > 0 ? adjusted : null;
+        });
+    }
+
+}
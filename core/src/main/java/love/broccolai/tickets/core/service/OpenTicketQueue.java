@@ -0,0 +1,223 @@
+package love.broccolai.tickets.core.service;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import love.broccolai.tickets.api.event.TicketListener;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.api.service.StorageService;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * In memory view of every open ticket, oldest first, indexed by assignee and creator. Register it as a
+ * {@link TicketListener} with {@link ListeningStorageService} and {@link ListeningModificationService}, then call
+ * {@link #bootstrap()} once.
+ *
+ * <p>Reads return immutable lists from a snapshot published through a volatile field and never block. Each change
+ * copies only the lists it touches into a new snapshot, so it costs time linear in the number of open tickets.</p>
+ */
+@Singleton
+public final class OpenTicketQueue implements TicketListener {
+
+    private static final Comparator<Ticket> ORDER = Comparator.comparing(Ticket::date).thenComparingInt(Ticket::id);
+
+    private final StorageService storageService;
+
+    private final Object writeLock = new Object();
+    private final Map<Integer, Queued> queued = new HashMap<>();
+    private @Nullable List<Ticket> buffered;
+    private volatile Snapshot snapshot = new Snapshot(List.of(), Map.of(), Map.of());
+
+    @Inject
+    public OpenTicketQueue(final @NonNull StorageService storageService) {
+        this.storageService = storageService;
+    }
+
+    /**
+     * Loads every open ticket and replaces the queue with them. Changes arriving while they load are buffered and
+     * applied on top afterwards, so they are never lost to the older loaded state.
+     */
+    public synchronized void bootstrap() {
+        synchronized (this.writeLock) {
+            this.buffered = new ArrayList<>();
+        }
+
+        List<Ticket> tickets = null;
+
+        try {
+            tickets = new ArrayList<>(this.storageService.findTickets(TicketStatus.OPEN, null, null));
+        } finally {
+            synchronized (this.writeLock) {
+                if (tickets != null) {
+                    this.replace(tickets);
+                }
+
+                List<Ticket> buffered = this.buffered;
+                this.buffered = null;
+
+                for (final Ticket ticket : buffered) {
+                    this.apply(ticket);
+                }
+            }
+        }
+    }
+
+    public @NonNull List<@NonNull Ticket> openTickets() {
+        return this.snapshot.tickets();
+    }
+
+    public @NonNull List<@NonNull Ticket> assignedTo(final @NonNull UUID assignee) {
+        return this.snapshot.byAssignee().getOrDefault(assignee, List.of());
+    }
+
+    public @NonNull List<@NonNull Ticket> createdBy(final @NonNull UUID creator) {
+        return this.snapshot.byCreator().getOrDefault(creator, List.of());
+    }
+
+    public int size() {
+        return this.snapshot.tickets().size();
+    }
+
+    @Override
+    public void ticketCreated(final @NonNull Ticket ticket) {
+        this.update(ticket);
+    }
+
+    @Override
+    public void actionApplied(final @NonNull Ticket ticket, final @NonNull Action action) {
+        this.update(ticket);
+    }
+
+    private void update(final Ticket ticket) {
+        synchronized (this.writeLock) {
+            if (this.buffered != null) {
+                this.buffered.add(ticket);
+            } else {
+                this.apply(ticket);
+            }
+        }
+    }
+
+    private void replace(final List<Ticket> tickets) {
+        tickets.sort(ORDER);
+
+        Map<UUID, List<Ticket>> byAssignee = new HashMap<>();
+        Map<UUID, List<Ticket>> byCreator = new HashMap<>();
+
+        this.queued.clear();
+
+        for (final Ticket ticket : tickets) {
+            UUID assignee = ticket.assignee().orElse(null);
+            this.queued.put(ticket.id(), new Queued(ticket, assignee));
+
+            if (assignee != null) {
+                byAssignee.computeIfAbsent(assignee, key -> new ArrayList<>()).add(ticket);
+            }
+
+            byCreator.computeIfAbsent(ticket.creator(), key -> new ArrayList<>()).add(ticket);
+        }
+
+        byAssignee.replaceAll((assignee, assigned) -> Collections.unmodifiableList(assigned));
+        byCreator.replaceAll((creator, created) -> Collections.unmodifiableList(created));
+
+        this.snapshot = new Snapshot(Collections.unmodifiableList(tickets), byAssignee, byCreator);
+    }
+
+    private void apply(final Ticket ticket) {
+        Snapshot current = this.snapshot;
+        List<Ticket> tickets = current.tickets();
+        Map<UUID, List<Ticket>> byAssignee = current.byAssignee();
+        Map<UUID, List<Ticket>> byCreator = current.byCreator();
+
+        Queued previous = this.queued.remove(ticket.id());
+
+        if (previous != null) {
+            tickets = without(tickets, previous.ticket());
+            byCreator = without(byCreator, previous.ticket().creator(), previous.ticket());
+
+            if (previous.assignee() != null) {
+                byAssignee = without(byAssignee, previous.assignee(), previous.ticket());
+            }
+        }
+
+        if (ticket.status() == TicketStatus.OPEN) {
+            UUID assignee = ticket.assignee().orElse(null);
+            this.queued.put(ticket.id(), new Queued(ticket, assignee));
+
+            tickets = with(tickets, ticket);
+            byCreator = with(byCreator, ticket.creator(), ticket);
+
+            if (assignee != null) {
+                byAssignee = with(byAssignee, assignee, ticket);
+            }
+        } else if (previous == null) {
+            return;
+        }
+
+        this.snapshot = new Snapshot(tickets, byAssignee, byCreator);
+    }
+
+    private static List<Ticket> with(final List<Ticket> tickets, final Ticket ticket) {
+        List<Ticket> copy = new ArrayList<>(tickets.size() + 1);
+        copy.addAll(tickets);
+        copy.add(-Collections.binarySearch(tickets, ticket, ORDER) - 1, ticket);
+
+        return Collections.unmodifiableList(copy);
+    }
+
+    private static List<Ticket> without(final List<Ticket> tickets, final Ticket ticket) {
+        int index = Collections.binarySearch(tickets, ticket, ORDER);
+
+        if (index < 0) {
+            return tickets;
+        }
+
+        List<Ticket> copy = new ArrayList<>(tickets);
+        copy.remove(index);
+
+        return Collections.unmodifiableList(copy);
+    }
+
+    private static Map<UUID, List<Ticket>> with(final Map<UUID, List<Ticket>> index, final UUID key, final Ticket ticket) {
+        Map<UUID, List<Ticket>> copy = new HashMap<>(index);
+        copy.put(key, with(index.getOrDefault(key, List.of()), ticket));
+
+        return copy;
+    }
+
+    private static Map<UUID, List<Ticket>> without(final Map<UUID, List<Ticket>> index, final UUID key, final Ticket ticket) {
+        List<Ticket> tickets = without(index.getOrDefault(key, List.of()), ticket);
+        Map<UUID, List<Ticket>> copy = new HashMap<>(index);
+
+        if (tickets.isEmpty()) {
+            copy.remove(key);
+        } else {
+            copy.put(key, tickets);
+        }
+
+        return copy;
+    }
+
+    private record Snapshot(
+            List<Ticket> tickets,
+            Map<UUID, List<Ticket>> byAssignee,
+            Map<UUID, List<Ticket>> byCreator
+    ) {
+    }
+
+    /**
+     * Tickets are mutable, so the assignee a ticket was indexed under is kept to find it again once that changes.
+     */
+    private record Queued(Ticket ticket, @Nullable UUID assignee) {
+    }
+
+}
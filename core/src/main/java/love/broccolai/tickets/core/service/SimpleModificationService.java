@@ -3,22 +3,38 @@ package love.broccolai.tickets.core.service;
 import com.google.inject.Inject;
 import java.util.UUID;
 import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.action.Action;
 import love.broccolai.tickets.api.model.action.AssignAction;
 import love.broccolai.tickets.api.model.action.CloseAction;
 import love.broccolai.tickets.api.model.action.EditAction;
 import love.broccolai.tickets.api.service.ModificationService;
 import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.api.service.TicketConflictException;
 import love.broccolai.tickets.core.utilities.TimeUtilities;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * Applies modifications optimistically: when another writer saved the ticket first the ticket passed in is
+ * {@link Ticket#rebase(Ticket) rebased} onto a freshly loaded copy and saved again, up to {@code maximumAttempts}
+ * times, after which the {@link TicketConflictException} is rethrown. On success the ticket passed in is the one
+ * that was saved.
+ */
 public final class SimpleModificationService implements ModificationService {
 
+    private static final int DEFAULT_MAXIMUM_ATTEMPTS = 3;
+
     private final StorageService storageService;
+    private final int maximumAttempts;
 
     @Inject
     public SimpleModificationService(final @NonNull StorageService storageService) {
+        this(storageService, DEFAULT_MAXIMUM_ATTEMPTS);
+    }
+
+    public SimpleModificationService(final @NonNull StorageService storageService, final int maximumAttempts) {
         this.storageService = storageService;
+        this.maximumAttempts = maximumAttempts;
     }
 
     @Override
@@ -27,12 +43,9 @@ public final class SimpleModificationService implements ModificationService {
             final @NonNull UUID creator,
             final @Nullable String message
     ) {
-        CloseAction action = new CloseAction(TimeUtilities.nowTruncated(), creator, null);
-        ticket.actions().add(action);
-
-        this.storageService.saveTicket(ticket);
+        CloseAction action = new CloseAction(TimeUtilities.nowTruncated(), creator, message);
 
-        return action;
+        return this.modify(ticket, action);
     }
 
     @Override
@@ -43,12 +56,7 @@ public final class SimpleModificationService implements ModificationService {
     ) {
         EditAction action = new EditAction(TimeUtilities.nowTruncated(), creator, message);
 
-        ticket.message(message);
-        ticket.actions().add(action);
-
-        this.storageService.saveTicket(ticket);
-
-        return action;
+        return this.modify(ticket, action);
     }
 
     @Override
@@ -59,12 +67,24 @@ public final class SimpleModificationService implements ModificationService {
     ) {
         AssignAction action = new AssignAction(TimeUtilities.nowTruncated(), creator, assignee);
 
-        ticket.assignee(assignee);
-        ticket.actions().add(action);
-
-        this.storageService.saveTicket(ticket);
+        return this.modify(ticket, action);
+    }
 
-        return action;
+    private <A extends Action> A modify(final Ticket ticket, final A action) {
+        ticket.apply(action);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                this.storageService.saveTicket(ticket);
+                return action;
+            } catch (final TicketConflictException e) {
+                if (attempt >= this.maximumAttempts) {
+                    throw e;
+                }
+
+                ticket.rebase(this.storageService.selectTicket(ticket.id()));
+            }
+        }
     }
 
 }
@@ -0,0 +1,247 @@
+package love.broccolai.tickets.core.service;
+
+import com.google.common.primitives.Ints;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import love.broccolai.tickets.api.collection.IntObjectMap;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketDraft;
+import love.broccolai.tickets.api.model.TicketPage;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.api.service.TicketConflictException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Queues saved tickets and writes them to the delegate in batches, either every {@code window} or
+ * once {@code maximumBatchSize} distinct tickets are pending.
+ *
+ * <p>Reads flush the queue first so callers always observe their own writes. {@link #close()} must
+ * be called on shutdown to persist anything still queued.</p>
+ *
+ * <p>Tickets rejected with a {@link TicketConflictException} are {@link Ticket#rebase(Ticket) rebased} onto their
+ * stored copy, which re-applies their pending actions, and the batch is written again. Tickets still conflicting
+ * after {@code MAXIMUM_ATTEMPTS} are queued for the next flush instead, so nothing is discarded. Rebasing happens on
+ * the flushing thread.</p>
+ */
+public final class WriteBehindStorageService implements StorageService, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindStorageService.class);
+    private static final int MAXIMUM_ATTEMPTS = 3;
+
+    private final StorageService delegate;
+    private final Duration window;
+    private final int maximumBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object pendingLock = new Object();
+    private final Object flushLock = new Object();
+    private Set<Ticket> pending = newPendingSet();
+
+    public WriteBehindStorageService(
+            final @NonNull StorageService delegate,
+            final @NonNull Duration window,
+            final int maximumBatchSize
+    ) {
+        this.delegate = delegate;
+        this.window = window;
+        this.maximumBatchSize = maximumBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tickets-write-behind");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        long windowMillis = window.toMillis();
+        this.scheduler.scheduleWithFixedDelay(this::flushQuietly, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public @NonNull Ticket createTicket(final @NonNull UUID creator, final @NonNull String message) {
+        return this.delegate.createTicket(creator, message);
+    }
+
+    @Override
+    public @NonNull List<@NonNull Ticket> createTickets(final @NonNull Collection<@NonNull TicketDraft> drafts) {
+        return this.delegate.createTickets(drafts);
+    }
+
+    @Override
+    public void saveTicket(final @NonNull Ticket ticket) {
+        this.saveTickets(Collections.singleton(ticket));
+    }
+
+    @Override
+    public void saveTickets(final @NonNull Collection<@NonNull Ticket> tickets) {
+        boolean full;
+
+        synchronized (this.pendingLock) {
+            this.pending.addAll(tickets);
+            full = this.pending.size() >= this.maximumBatchSize;
+        }
+
+        if (full) {
+            this.scheduler.execute(this::flushQuietly);
+        }
+    }
+
+    @Override
+    public @NonNull Ticket selectTicket(final int id) {
+        this.flush();
+        return this.delegate.selectTicket(id);
+    }
+
+    @Override
+    public @NonNull IntObjectMap<@NonNull Ticket> selectTickets(final int... ids) {
+        this.flush();
+        return this.delegate.selectTickets(ids);
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Ticket> findTickets(
+            final @NonNull TicketStatus status,
+            final @Nullable UUID assignee,
+            final @Nullable Instant since
+    ) {
+        this.flush();
+        return this.delegate.findTickets(status, assignee, since);
+    }
+
+    @Override
+    public @NonNull TicketPage findTickets(
+            final @NonNull TicketStatus status,
+            final @Nullable UUID assignee,
+            final @Nullable Instant since,
+            final int after,
+            final int limit
+    ) {
+        this.flush();
+        return this.delegate.findTickets(status, assignee, since, after, limit);
+    }
+
+    @Override
+    public @NonNull Stream<@NonNull Ticket> streamTickets(
+            final @NonNull TicketStatus status,
+            final @Nullable UUID assignee,
+            final @Nullable Instant since
+    ) {
+        this.flush();
+        return this.delegate.streamTickets(status, assignee, since);
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull Ticket> findTicketsByCreator(final @NonNull UUID creator, final @NonNull TicketStatus status) {
+        this.flush();
+        return this.delegate.findTicketsByCreator(creator, status);
+    }
+
+    @Override
+    public @NonNull Map<@NonNull UUID, @NonNull Integer> countTicketsByCreator(final @NonNull TicketStatus status) {
+        this.flush();
+        return this.delegate.countTicketsByCreator(status);
+    }
+
+    public void flush() {
+        synchronized (this.flushLock) {
+            Set<Ticket> batch;
+
+            synchronized (this.pendingLock) {
+                if (this.pending.isEmpty()) {
+                    return;
+                }
+
+                batch = this.pending;
+                this.pending = newPendingSet();
+            }
+
+            try {
+                this.write(batch);
+            } catch (final RuntimeException e) {
+                this.requeue(batch);
+                throw e;
+            }
+        }
+    }
+
+    public int pendingTickets() {
+        synchronized (this.pendingLock) {
+            return this.pending.size();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.scheduler.shutdown();
+
+        try {
+            if (!this.scheduler.awaitTermination(this.window.toMillis() * 2, TimeUnit.MILLISECONDS)) {
+                this.scheduler.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            this.scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        this.flush();
+    }
+
+    private void write(final Set<Ticket> batch) {
+        for (int attempt = 1; !batch.isEmpty(); attempt++) {
+            try {
+                this.delegate.saveTickets(batch);
+                return;
+            } catch (final TicketConflictException e) {
+                List<Ticket> conflicting = batch.stream()
+                        .filter(ticket -> e.tickets().contains(ticket.id()))
+                        .toList();
+
+                if (attempt >= MAXIMUM_ATTEMPTS) {
+                    LOGGER.warn("Tickets {} are still modified concurrently, retrying them on the next flush", e.tickets());
+                    conflicting.forEach(batch::remove);
+                    this.requeue(conflicting);
+                    continue;
+                }
+
+                IntObjectMap<Ticket> stored = this.delegate.selectTickets(Ints.toArray(e.tickets()));
+
+                for (final Ticket ticket : conflicting) {
+                    ticket.rebase(stored.get(ticket.id()));
+                }
+            }
+        }
+    }
+
+    private void requeue(final Collection<Ticket> tickets) {
+        synchronized (this.pendingLock) {
+            this.pending.addAll(tickets);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            this.flush();
+        } catch (final RuntimeException e) {
+            LOGGER.error("Failed to flush pending tickets, retrying in {}", this.window, e);
+        }
+    }
+
+    private static Set<Ticket> newPendingSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+}
@@ -0,0 +1,49 @@
+package love.broccolai.tickets.core.storage;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.UUID;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Action column indexes and the UUID column mapper, resolved once per result set.
+ */
+public record ActionColumns(
+        @NonNull ColumnMapper<UUID> uuidMapper,
+        int creator,
+        int date,
+        int message,
+        int assignee
+) {
+
+    public static @NonNull ActionColumns resolve(final @NonNull ResultSet rs, final @NonNull StatementContext ctx) throws SQLException {
+        return new ActionColumns(
+                ctx.findColumnMapperFor(UUID.class).orElseThrow(IllegalStateException::new),
+                ResultSetColumns.index(rs, "action_creator"),
+                ResultSetColumns.index(rs, "action_date"),
+                ResultSetColumns.index(rs, "action_message"),
+                ResultSetColumns.index(rs, "action_assignee")
+        );
+    }
+
+    public @NonNull UUID creator(final @NonNull ResultSet rs, final @NonNull StatementContext ctx) throws SQLException {
+        return this.uuidMapper.map(rs, this.creator, ctx);
+    }
+
+    public @NonNull Instant date(final @NonNull ResultSet rs) throws SQLException {
+        return rs.getTimestamp(this.date).toInstant();
+    }
+
+    public @Nullable String message(final @NonNull ResultSet rs) throws SQLException {
+        return rs.getString(this.message);
+    }
+
+    public @Nullable UUID assignee(final @NonNull ResultSet rs, final @NonNull StatementContext ctx) throws SQLException {
+        return this.uuidMapper.map(rs, this.assignee, ctx);
+    }
+
+}
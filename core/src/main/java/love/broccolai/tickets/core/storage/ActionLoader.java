@@ -0,0 +1,92 @@
+package love.broccolai.tickets.core.storage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import love.broccolai.tickets.api.collection.IntObjectMap;
+import love.broccolai.tickets.api.model.action.Action;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Hands out {@link LazyActions} in windows of at most {@code windowSize} tickets. The first read of any ticket in a
+ * window loads the actions of the whole window in a single query.
+ *
+ * <p>Each {@link LazyActions} only references its own window and drops it once loaded, so a window's actions are
+ * released as soon as its tickets are either read or unreachable.</p>
+ */
+public final class ActionLoader {
+
+    public static final int DEFAULT_WINDOW_SIZE = ChunkedFetch.DEFAULT_CHUNK_SIZE;
+
+    private final Function<int[], IntObjectMap<List<Action>>> query;
+    private final int windowSize;
+
+    private @Nullable Window window;
+
+    public ActionLoader(final @NonNull Function<int @NonNull [], @NonNull IntObjectMap<List<Action>>> query) {
+        this(query, DEFAULT_WINDOW_SIZE);
+    }
+
+    public ActionLoader(final @NonNull Function<int @NonNull [], @NonNull IntObjectMap<List<Action>>> query, final int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+
+        this.query = query;
+        this.windowSize = windowSize;
+    }
+
+    public @NonNull LazyActions actions(final int ticket, final int savedCount) {
+        if (savedCount == 0) {
+            return new LazyActions(null, ticket, 0);
+        }
+
+        Window window;
+
+        synchronized (this) {
+            if (this.window == null || !this.window.add(ticket)) {
+                this.window = new Window(this.query, this.windowSize);
+                this.window.add(ticket);
+            }
+
+            window = this.window;
+        }
+
+        return new LazyActions(window, ticket, savedCount);
+    }
+
+    static final class Window {
+
+        private final Function<int[], IntObjectMap<List<Action>>> query;
+        private final int[] tickets;
+
+        private int ticketCount;
+        private IntObjectMap<List<Action>> actions;
+
+        private Window(final Function<int[], IntObjectMap<List<Action>>> query, final int size) {
+            this.query = query;
+            this.tickets = new int[size];
+        }
+
+        private synchronized boolean add(final int ticket) {
+            if (this.actions != null || this.ticketCount == this.tickets.length) {
+                return false;
+            }
+
+            this.tickets[this.ticketCount++] = ticket;
+            return true;
+        }
+
+        synchronized @NonNull List<Action> load(final int ticket) {
+            if (this.actions == null) {
+                this.actions = this.query.apply(Arrays.copyOf(this.tickets, this.ticketCount));
+            }
+
+            List<Action> actions = this.actions.get(ticket);
+            return actions == null ? List.of() : actions;
+        }
+
+    }
+
+}
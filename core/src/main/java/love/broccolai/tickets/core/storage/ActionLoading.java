@@ -0,0 +1,16 @@
+package love.broccolai.tickets.core.storage;
+
+/**
+ * How {@code DatabaseStorageService} loads the action history of selected and found tickets.
+ */
+public enum ActionLoading {
+    /**
+     * Join actions onto the ticket rows and load full histories up front.
+     */
+    EAGER,
+    /**
+     * Load ticket headers only. Histories are fetched per {@link ActionLoader window} of consecutive tickets, the first
+     * read in a window loads the actions of all its tickets through {@link ChunkedFetch}.
+     */
+    LAZY
+}
@@ -2,31 +2,38 @@ package love.broccolai.tickets.core.storage;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.Instant;
-import java.util.Map;
-import java.util.UUID;
 import love.broccolai.tickets.api.model.action.Action;
-import org.jdbi.v3.core.mapper.ColumnMapper;
 import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.SqlStatement;
 import org.jdbi.v3.core.statement.StatementContext;
 
 public interface ActionMapper<A extends Action> extends RowMapper<Action> {
 
     @Override
     default Action map(ResultSet rs, StatementContext ctx) throws SQLException {
-        ColumnMapper<UUID> uuidMapper = ctx.findColumnMapperFor(UUID.class).orElseThrow(IllegalStateException::new);
-        Instant date = rs.getTimestamp("action_date").toInstant();
-
-        return this.map(uuidMapper, date, rs, ctx);
+        return this.map(ActionColumns.resolve(rs, ctx), rs, ctx);
     }
 
-    A map(ColumnMapper<UUID> mapper, Instant date, ResultSet rs, StatementContext ctx) throws SQLException;
+    A map(ActionColumns columns, ResultSet rs, StatementContext ctx) throws SQLException;
 
-    Map<Entries, Object> processBindables(A action);
+    /**
+     * Binds every {@link Entries} column of {@code action}, binding {@code null} for columns the action does not use.
+     */
+    <S extends SqlStatement<S>> S bind(S statement, A action);
 
     enum Entries {
-        CREATOR,
-        ASSIGNEE,
-        MESSAGE
+        CREATOR("creator"),
+        ASSIGNEE("assignee"),
+        MESSAGE("message");
+
+        private final String column;
+
+        Entries(final String column) {
+            this.column = column;
+        }
+
+        public String column() {
+            return this.column;
+        }
     }
 }
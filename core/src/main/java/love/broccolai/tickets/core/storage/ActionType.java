@@ -0,0 +1,11 @@
+package love.broccolai.tickets.core.storage;
+
+import love.broccolai.tickets.api.model.action.Action;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public record ActionType<A extends Action>(
+        @NonNull String identifier,
+        @NonNull Class<A> type,
+        @NonNull ActionMapper<A> mapper
+) {
+}
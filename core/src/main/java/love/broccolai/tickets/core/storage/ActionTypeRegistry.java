@@ -0,0 +1,88 @@
+package love.broccolai.tickets.core.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+import love.broccolai.tickets.api.model.action.Action;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jdbi.v3.core.config.JdbiConfig;
+
+/**
+ * Action types known to the storage layer, keyed by the identifier stored in the {@code type} column.
+ *
+ * <p>Registered on a {@link org.jdbi.v3.core.Jdbi} through its config, e.g.
+ * {@code jdbi.getConfig(ActionTypeRegistry.class).register("NOTE", NoteAction.class, new NoteActionMapper())}.
+ * Lookups are constant-time regardless of the number of registered types.</p>
+ */
+public final class ActionTypeRegistry implements JdbiConfig<ActionTypeRegistry> {
+
+    private Map<String, ActionType<?>> identifiers;
+    private Map<Class<?>, ActionType<?>> classes;
+
+    public ActionTypeRegistry() {
+        this(Map.of(), Map.of());
+    }
+
+    private ActionTypeRegistry(final Map<String, ActionType<?>> identifiers, final Map<Class<?>, ActionType<?>> classes) {
+        this.identifiers = identifiers;
+        this.classes = classes;
+    }
+
+    public <A extends Action> @NonNull ActionTypeRegistry register(
+            final @NonNull String identifier,
+            final @NonNull Class<A> type,
+            final @NonNull ActionMapper<A> mapper
+    ) {
+        if (this.identifiers.containsKey(identifier) || this.classes.containsKey(type)) {
+            throw new IllegalArgumentException("Action type already registered: " + identifier + " (" + type.getName() + ")");
+        }
+
+        ActionType<A> actionType = new ActionType<>(identifier, type, mapper);
+
+        Map<String, ActionType<?>> identifiers = new HashMap<>(this.identifiers);
+        identifiers.put(identifier, actionType);
+
+        Map<Class<?>, ActionType<?>> classes = new HashMap<>(this.classes);
+        classes.put(type, actionType);
+
+        this.identifiers = Map.copyOf(identifiers);
+        this.classes = Map.copyOf(classes);
+
+        return this;
+    }
+
+    public @NonNull ActionType<?> type(final @NonNull String identifier) {
+        ActionType<?> type = this.identifiers.get(identifier);
+
+        if (type == null) {
+            throw new IllegalStateException("Unknown action type: " + identifier);
+        }
+
+        return type;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A extends Action> @NonNull ActionType<A> type(final @NonNull A action) {
+        ActionType<A> type = (ActionType<A>) this.classes.get(action.getClass());
+
+        if (type == null) {
+            throw new IllegalStateException("Unregistered action class: " + action.getClass().getName());
+        }
+
+        return type;
+    }
+
+    public @Nullable ActionType<?> find(final @NonNull String identifier) {
+        return this.identifiers.get(identifier);
+    }
+
+    public int size() {
+        return this.identifiers.size();
+    }
+
+    @Override
+    public ActionTypeRegistry createCopy() {
+        return new ActionTypeRegistry(this.identifiers, this.classes);
+    }
+
+}
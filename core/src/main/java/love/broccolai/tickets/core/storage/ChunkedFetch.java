@@ -0,0 +1,137 @@
+package love.broccolai.tickets.core.storage;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import love.broccolai.tickets.api.collection.IntObjectMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Splits id lookups into sorted chunks of at most {@code chunkSize} ids and runs up to {@code parallelism} of them at
+ * once, each on its own pooled connection.
+ *
+ * <p>The calling thread works through chunks alongside the executor and only waits for chunks already started, so a
+ * busy or saturated executor degrades to a serial fetch instead of blocking. Results are merged in id order.</p>
+ *
+ * <p>{@link #close()} shuts the executor down when it is an {@link ExecutorService}, the fetch owns the executor it is given.</p>
+ */
+public final class ChunkedFetch implements AutoCloseable {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final int chunkSize;
+    private final int parallelism;
+    private final Executor executor;
+
+    public ChunkedFetch(final int chunkSize, final int parallelism, final @NonNull Executor executor) {
+        if (chunkSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Chunk size and parallelism must be positive");
+        }
+
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.executor = executor;
+    }
+
+    public static @NonNull ChunkedFetch serial(final int chunkSize) {
+        return new ChunkedFetch(chunkSize, 1, Runnable::run);
+    }
+
+    public int chunkSize() {
+        return this.chunkSize;
+    }
+
+    public <V> @NonNull IntObjectMap<V> fetch(
+            final int @NonNull [] ids,
+            final @NonNull Function<int @NonNull [], @NonNull IntObjectMap<V>> query
+    ) {
+        int[] sorted = Arrays.stream(ids).sorted().distinct().toArray();
+
+        if (sorted.length == 0) {
+            return new IntObjectMap<>();
+        }
+
+        if (sorted.length <= this.chunkSize) {
+            return query.apply(sorted);
+        }
+
+        int chunks = (sorted.length + this.chunkSize - 1) / this.chunkSize;
+        Object[] results = new Object[chunks];
+
+        AtomicInteger next = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch remaining = new CountDownLatch(chunks);
+
+        Runnable worker = () -> {
+            int chunk;
+
+            while ((chunk = next.getAndIncrement()) < chunks) {
+                try {
+                    if (failure.get() == null) {
+                        int from = chunk * this.chunkSize;
+                        results[chunk] = query.apply(Arrays.copyOfRange(sorted, from, Math.min(from + this.chunkSize, sorted.length)));
+                    }
+                } catch (final Throwable throwable) {
+                    failure.compareAndSet(null, throwable);
+                } finally {
+                    remaining.countDown();
+                }
+            }
+        };
+
+        for (int i = 1; i < Math.min(this.parallelism, chunks); i++) {
+            try {
+                this.executor.execute(worker);
+            } catch (final RejectedExecutionException e) {
+                break;
+            }
+        }
+
+        worker.run();
+
+        try {
+            remaining.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching tickets", e);
+        }
+
+        if (failure.get() instanceof RuntimeException e) {
+            throw e;
+        } else if (failure.get() instanceof Error e) {
+            throw e;
+        } else if (failure.get() != null) {
+            throw new IllegalStateException(failure.get());
+        }
+
+        return merge(results, sorted.length);
+    }
+
+    @Override
+    public void close() {
+        if (this.executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> IntObjectMap<V> merge(final Object[] results, final int expectedSize) {
+        IntObjectMap<V> merged = new IntObjectMap<>(expectedSize);
+
+        for (final Object result : results) {
+            IntObjectMap<V> chunk = (IntObjectMap<V>) result;
+
+            for (int i = 0; i < chunk.size(); i++) {
+                merged.put(chunk.keyAt(i), chunk.valueAt(i));
+            }
+        }
+
+        return merged;
+    }
+
+}
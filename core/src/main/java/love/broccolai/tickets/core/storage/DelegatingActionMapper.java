@@ -1,72 +1,39 @@
 package love.broccolai.tickets.core.storage;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
 import love.broccolai.tickets.api.model.action.Action;
-import love.broccolai.tickets.api.model.action.AssignAction;
-import love.broccolai.tickets.api.model.action.CloseAction;
-import love.broccolai.tickets.api.model.action.EditAction;
-import love.broccolai.tickets.core.storage.ActionMapper.Entries;
-import love.broccolai.tickets.core.storage.actions.AssignActionMapper;
-import love.broccolai.tickets.core.storage.actions.CloseActionMapper;
-import love.broccolai.tickets.core.storage.actions.EditActionMapper;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.SqlStatement;
 import org.jdbi.v3.core.statement.StatementContext;
 
+/**
+ * Maps and binds actions through the {@link ActionTypeRegistry} of the current statement.
+ */
 public final class DelegatingActionMapper implements RowMapper<Action> {
 
-    private static final BiMap<Class<? extends Action>, String> NAME_MAPPINGS = HashBiMap.create(Map.of(
-            AssignAction.class, "ASSIGN",
-            CloseAction.class, "CLOSE",
-            EditAction.class, "EDIT"
-    ));
+    public <S extends SqlStatement<S>, A extends Action> S bind(final S statement, final A action) {
+        ActionType<A> type = statement.getConfig(ActionTypeRegistry.class).type(action);
 
-    private static final Map<Class<? extends Action>, ? extends ActionMapper<?>> MAPPERS = Map.of(
-            AssignAction.class, new AssignActionMapper(),
-            CloseAction.class, new CloseActionMapper(),
-            EditAction.class, new EditActionMapper()
-    );
-
-    @SuppressWarnings("unchecked")
-    public <T extends Action> Map<String, ?> bindables(final T action) {
-        Class<? extends Action> clazz = action.getClass();
-        ActionMapper<T> mapper = (ActionMapper<T>) MAPPERS.get(clazz);
-
-        Map<Entries, Object> processedBindings = mapper.processBindables(action);
-        Map<String, Object> result = new HashMap<>();
-
-        processedBindings.forEach((key, value) -> {
-            result.put(key.name().toLowerCase(), value);
-        });
-
-        Collection<Entries> entries = new ArrayList<>(Arrays.asList(Entries.values()));
-        entries.removeAll(processedBindings.keySet());
-
-        for (final Entries entry : entries) {
-            result.put(entry.name().toLowerCase(), null);
-        }
-
-        return result;
-    }
-
-    public @NonNull String typeIdentifier(final Action action) {
-        return NAME_MAPPINGS.get(action.getClass());
+        return type.mapper().bind(statement.bind("type", type.identifier()), action);
     }
 
     @Override
     public Action map(final ResultSet rs, final StatementContext ctx) throws SQLException {
-        String type = rs.getString("type");
-        Class<? extends Action> clazz = NAME_MAPPINGS.inverse().get(type);
+        return this.specialize(rs, ctx).map(rs, ctx);
+    }
 
-        return MAPPERS.get(clazz).map(rs, ctx);
+    @Override
+    public @NonNull RowMapper<Action> specialize(final ResultSet rs, final StatementContext ctx) throws SQLException {
+        ActionTypeRegistry registry = ctx.getConfig(ActionTypeRegistry.class);
+        ActionColumns columns = ActionColumns.resolve(rs, ctx);
+        int typeColumn = ResultSetColumns.index(rs, "type");
+
+        return (row, rowContext) -> {
+            ActionType<?> type = registry.type(row.getString(typeColumn));
+            return type.mapper().map(columns, row, rowContext);
+        };
     }
 
 }
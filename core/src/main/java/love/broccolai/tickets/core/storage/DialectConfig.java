@@ -0,0 +1,35 @@
+package love.broccolai.tickets.core.storage;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jdbi.v3.core.config.JdbiConfig;
+
+/**
+ * The {@link SqlDialect} the storage layer picks its queries for, set by the {@code TicketsJdbiPlugin}.
+ */
+public final class DialectConfig implements JdbiConfig<DialectConfig> {
+
+    private SqlDialect dialect;
+
+    public DialectConfig() {
+        this.dialect = SqlDialect.MYSQL;
+    }
+
+    private DialectConfig(final DialectConfig other) {
+        this.dialect = other.dialect;
+    }
+
+    public @NonNull SqlDialect dialect() {
+        return this.dialect;
+    }
+
+    public @NonNull DialectConfig dialect(final @NonNull SqlDialect dialect) {
+        this.dialect = dialect;
+        return this;
+    }
+
+    @Override
+    public DialectConfig createCopy() {
+        return new DialectConfig(this);
+    }
+
+}
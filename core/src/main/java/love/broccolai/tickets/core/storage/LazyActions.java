@@ -0,0 +1,69 @@
+package love.broccolai.tickets.core.storage;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import love.broccolai.tickets.api.model.action.Action;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Action history whose saved part is only fetched, through its {@link ActionLoader} window, when first read.
+ *
+ * <p>The saved size is known up front, so {@code size()} and appending new actions never trigger a load.
+ * Only appending is supported.</p>
+ */
+public final class LazyActions extends AbstractList<Action> {
+
+    private final int ticket;
+    private final int savedCount;
+    private final List<Action> appended = new ArrayList<>();
+
+    private ActionLoader.@Nullable Window window;
+    private @Nullable List<Action> saved;
+
+    LazyActions(final ActionLoader.@Nullable Window window, final int ticket, final int savedCount) {
+        this.window = window;
+        this.ticket = ticket;
+        this.savedCount = savedCount;
+        this.saved = savedCount == 0 ? List.of() : null;
+    }
+
+    @Override
+    public Action get(final int index) {
+        if (index < this.savedCount) {
+            return this.saved().get(index);
+        }
+
+        return this.appended.get(index - this.savedCount);
+    }
+
+    @Override
+    public int size() {
+        return this.savedCount + this.appended.size();
+    }
+
+    @Override
+    public void add(final int index, final Action action) {
+        if (index != this.size()) {
+            throw new UnsupportedOperationException("Actions can only be appended");
+        }
+
+        this.appended.add(action);
+        this.modCount++;
+    }
+
+    public boolean loaded() {
+        return this.saved != null;
+    }
+
+    private List<Action> saved() {
+        if (this.saved == null) {
+            List<Action> actions = this.window.load(this.ticket);
+            this.saved = actions.size() > this.savedCount ? actions.subList(0, this.savedCount) : actions;
+            this.window = null;
+        }
+
+        return this.saved;
+    }
+
+}
@@ -0,0 +1,25 @@
+package love.broccolai.tickets.core.storage;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+public final class ResultSetColumns {
+
+    private ResultSetColumns() {
+    }
+
+    public static int index(final @NonNull ResultSet rs, final @NonNull String label) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (metaData.getColumnLabel(i).equalsIgnoreCase(label)) {
+                return i;
+            }
+        }
+
+        throw new SQLException("Result set has no column " + label);
+    }
+
+}
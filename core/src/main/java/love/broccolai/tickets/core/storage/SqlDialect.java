@@ -0,0 +1,49 @@
+package love.broccolai.tickets.core.storage;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * SQL flavour spoken by the database.
+ *
+ * <p>The queries under {@code queries/} are written for MySQL, which MariaDB and H2 in MySQL mode also accept.
+ * A dialect with its own directory overrides any of them by placing a file of the same name there and brings
+ * its own migrations.</p>
+ */
+public enum SqlDialect {
+    MYSQL(null, false),
+    MARIADB(null, false),
+    H2(null, false),
+    POSTGRESQL("postgresql", true);
+
+    private static final String QUERIES = "queries";
+
+    private final @Nullable String directory;
+    private final boolean cursorNeedsTransaction;
+
+    SqlDialect(final @Nullable String directory, final boolean cursorNeedsTransaction) {
+        this.directory = directory;
+        this.cursorNeedsTransaction = cursorNeedsTransaction;
+    }
+
+    /**
+     * Whether the driver only honours a statement's fetch size, instead of reading the whole result, inside a
+     * transaction. PostgreSQL's driver ignores it in auto-commit mode.
+     */
+    public boolean cursorNeedsTransaction() {
+        return this.cursorNeedsTransaction;
+    }
+
+    public @NonNull String queryPath(final @NonNull String name) {
+        return this.directory == null
+                ? QUERIES + "/" + name + ".sql"
+                : QUERIES + "/" + this.directory + "/" + name + ".sql";
+    }
+
+    public @NonNull String migrations() {
+        return this.directory == null
+                ? "classpath:" + QUERIES + "/migrations"
+                : "classpath:" + QUERIES + "/" + this.directory + "/migrations";
+    }
+
+}
@@ -1,39 +1,82 @@
 package love.broccolai.tickets.core.storage;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Stream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import love.broccolai.tickets.api.collection.IntObjectMap;
 import love.broccolai.tickets.api.model.Ticket;
 import love.broccolai.tickets.api.model.action.Action;
 import love.broccolai.tickets.core.model.TicketBuilder;
-import org.jdbi.v3.core.result.RowReducer;
-import org.jdbi.v3.core.result.RowView;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.result.ResultSetAccumulator;
+import org.jdbi.v3.core.statement.StatementContext;
 
-public final class TicketAccumulator implements RowReducer<Map<Integer, TicketBuilder>, Ticket> {
+/**
+ * Reduces ticket/action join rows into an {@link IntObjectMap} of ticket builders keyed by id, in first seen order.
+ *
+ * <p>Mappers and column indexes are resolved on the first row. Ids are read unboxed and consecutive rows of the same
+ * ticket skip the map lookup. Instances hold that state and must not be shared between queries.</p>
+ */
+public final class TicketAccumulator implements ResultSetAccumulator<IntObjectMap<TicketBuilder>> {
+
+    private @Nullable RowMapper<TicketBuilder> ticketMapper;
+    private @Nullable RowMapper<Action> actionMapper;
+    private int idColumn;
+    private int typeColumn;
+
+    private @Nullable TicketBuilder last;
+    private int lastId;
 
     @Override
-    public Map<Integer, TicketBuilder> container() {
-        return new HashMap<>();
+    public IntObjectMap<TicketBuilder> apply(
+            final IntObjectMap<TicketBuilder> tickets,
+            final ResultSet rs,
+            final StatementContext ctx
+    ) throws SQLException {
+        if (this.ticketMapper == null) {
+            this.specialize(rs, ctx);
+        }
+
+        int id = rs.getInt(this.idColumn);
+        TicketBuilder ticket = this.last != null && this.lastId == id ? this.last : tickets.get(id);
+
+        if (ticket == null) {
+            ticket = this.ticketMapper.map(rs, ctx);
+            tickets.put(id, ticket);
+        }
+
+        if (rs.getString(this.typeColumn) != null) {
+            ticket.withAction(this.actionMapper.map(rs, ctx));
+        }
+
+        this.last = ticket;
+        this.lastId = id;
+
+        return tickets;
     }
 
-    @Override
-    public void accumulate(final Map<Integer, TicketBuilder> container, final RowView row) {
-        TicketBuilder ticket = container.computeIfAbsent(
-                row.getColumn("id", Integer.class),
-                id -> row.getRow(TicketBuilder.class)
-        );
-
-        if (row.getColumn("type", String.class) != null) {
-            Action action = row.getRow(Action.class);
-            ticket.withAction(action);
+    public static @NonNull IntObjectMap<Ticket> tickets(final @NonNull IntObjectMap<TicketBuilder> builders) {
+        return builders.mapValues(TicketBuilder::build);
+    }
+
+    public static @NonNull List<Ticket> ticketList(final @NonNull IntObjectMap<TicketBuilder> builders) {
+        List<Ticket> tickets = new ArrayList<>(builders.size());
+
+        for (int i = 0; i < builders.size(); i++) {
+            tickets.add(builders.valueAt(i).build());
         }
+
+        return tickets;
     }
 
-    @Override
-    public Stream<Ticket> stream(final Map<Integer, TicketBuilder> container) {
-        return container.values()
-                .stream()
-                .map(TicketBuilder::build);
+    private void specialize(final ResultSet rs, final StatementContext ctx) throws SQLException {
+        this.ticketMapper = ctx.findRowMapperFor(TicketBuilder.class).orElseThrow(IllegalStateException::new).specialize(rs, ctx);
+        this.actionMapper = ctx.findRowMapperFor(Action.class).orElseThrow(IllegalStateException::new).specialize(rs, ctx);
+        this.idColumn = ResultSetColumns.index(rs, "id");
+        this.typeColumn = ResultSetColumns.index(rs, "type");
     }
 
 }
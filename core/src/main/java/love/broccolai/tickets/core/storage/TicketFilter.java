@@ -0,0 +1,72 @@
+package love.broccolai.tickets.core.storage;
+
+import java.time.Instant;
+import java.util.UUID;
+import love.broccolai.tickets.api.model.TicketStatus;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jdbi.v3.core.statement.SqlStatement;
+
+/**
+ * Ticket search filters, rendered into the {@code <filters>} attribute of the find queries.
+ *
+ * <p>Only the filters that are set end up in the predicate, {@code (:assignee IS NULL OR ...)} style predicates
+ * would keep the planner from using the status/assignee, creator/status and date indexes.</p>
+ */
+public record TicketFilter(
+        @NonNull TicketStatus status,
+        @Nullable UUID assignee,
+        @Nullable Instant since,
+        @Nullable UUID creator
+) {
+
+    private static final String[] CONDITIONS = {
+        " AND t.assignee = :assignee",
+        " AND t.date > :since",
+        " AND t.creator = :creator"
+    };
+
+    // one predicate per combination of set filters, indexed by bit mask
+    private static final String[] PREDICATES = new String[1 << CONDITIONS.length];
+
+    static {
+        for (int mask = 0; mask < PREDICATES.length; mask++) {
+            StringBuilder predicate = new StringBuilder("t.status = :status");
+
+            for (int i = 0; i < CONDITIONS.length; i++) {
+                if ((mask & 1 << i) != 0) {
+                    predicate.append(CONDITIONS[i]);
+                }
+            }
+
+            PREDICATES[mask] = predicate.toString();
+        }
+    }
+
+    public TicketFilter(final @NonNull TicketStatus status, final @Nullable UUID assignee, final @Nullable Instant since) {
+        this(status, assignee, since, null);
+    }
+
+    public @NonNull String predicate() {
+        return PREDICATES[(this.assignee == null ? 0 : 1) | (this.since == null ? 0 : 2) | (this.creator == null ? 0 : 4)];
+    }
+
+    public <S extends SqlStatement<S>> @NonNull S bind(final @NonNull S statement) {
+        statement.define("filters", this.predicate()).bind("status", this.status);
+
+        if (this.assignee != null) {
+            statement.bind("assignee", this.assignee);
+        }
+
+        if (this.since != null) {
+            statement.bind("since", this.since);
+        }
+
+        if (this.creator != null) {
+            statement.bind("creator", this.creator);
+        }
+
+        return statement;
+    }
+
+}
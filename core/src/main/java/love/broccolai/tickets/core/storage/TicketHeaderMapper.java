@@ -0,0 +1,40 @@
+package love.broccolai.tickets.core.storage;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.core.model.TicketBuilder;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Maps ticket header rows carrying an {@code action_count} column to tickets whose actions are loaded through the given loader.
+ */
+public final class TicketHeaderMapper implements RowMapper<Ticket> {
+
+    private final ActionLoader loader;
+
+    public TicketHeaderMapper(final @NonNull ActionLoader loader) {
+        this.loader = loader;
+    }
+
+    @Override
+    public Ticket map(final ResultSet rs, final StatementContext ctx) throws SQLException {
+        return this.specialize(rs, ctx).map(rs, ctx);
+    }
+
+    @Override
+    public @NonNull RowMapper<Ticket> specialize(final ResultSet rs, final StatementContext ctx) throws SQLException {
+        RowMapper<TicketBuilder> ticketMapper = ctx.findRowMapperFor(TicketBuilder.class)
+                .orElseThrow(IllegalStateException::new)
+                .specialize(rs, ctx);
+
+        int idColumn = ResultSetColumns.index(rs, "id");
+        int countColumn = ResultSetColumns.index(rs, "action_count");
+
+        return (row, rowContext) -> ticketMapper.map(row, rowContext)
+                .build(this.loader.actions(row.getInt(idColumn), row.getInt(countColumn)));
+    }
+
+}
@@ -0,0 +1,69 @@
+package love.broccolai.tickets.core.storage;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.core.model.TicketBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Groups consecutive {@link TicketRow}s into tickets, holding at most one ticket in memory at a time.
+ */
+public final class TicketIterator implements Iterator<Ticket> {
+
+    private final Iterator<TicketRow> rows;
+
+    private @Nullable TicketBuilder current;
+    private @Nullable Ticket next;
+
+    public TicketIterator(final Iterator<TicketRow> rows) {
+        this.rows = rows;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.next != null) {
+            return true;
+        }
+
+        while (this.rows.hasNext()) {
+            TicketRow row = this.rows.next();
+            TicketBuilder completed = null;
+
+            if (row.ticket() != null) {
+                completed = this.current;
+                this.current = row.ticket();
+            }
+
+            if (row.action() != null) {
+                this.current.withAction(row.action());
+            }
+
+            if (completed != null) {
+                this.next = completed.build();
+                return true;
+            }
+        }
+
+        if (this.current != null) {
+            this.next = this.current.build();
+            this.current = null;
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public Ticket next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Ticket ticket = this.next;
+        this.next = null;
+
+        return ticket;
+    }
+
+}
@@ -6,6 +6,7 @@ import java.time.Instant;
 import java.util.UUID;
 import love.broccolai.tickets.api.model.TicketStatus;
 import love.broccolai.tickets.core.model.TicketBuilder;
+import org.checkerframework.checker.nullness.qual.NonNull;
 import org.jdbi.v3.core.mapper.ColumnMapper;
 import org.jdbi.v3.core.mapper.EnumMapper;
 import org.jdbi.v3.core.mapper.RowMapper;
@@ -17,16 +18,32 @@ public final class TicketMapper implements RowMapper<TicketBuilder> {
 
     @Override
     public TicketBuilder map(final ResultSet rs, final StatementContext ctx) throws SQLException {
+        return this.specialize(rs, ctx).map(rs, ctx);
+    }
+
+    @Override
+    public @NonNull RowMapper<TicketBuilder> specialize(final ResultSet rs, final StatementContext ctx) throws SQLException {
         ColumnMapper<UUID> uuidMapper = ctx.findColumnMapperFor(UUID.class).orElseThrow(IllegalStateException::new);
 
-        int id = rs.getInt("id");
-        TicketStatus status = this.statusMapper.map(rs, "status", ctx);
-        UUID creator = uuidMapper.map(rs, "creator", ctx);
-        Instant date = rs.getTimestamp("date").toInstant();
-        UUID assignee = uuidMapper.map(rs, "assignee", ctx);
-        String message = rs.getString("message");
+        int idColumn = ResultSetColumns.index(rs, "id");
+        int statusColumn = ResultSetColumns.index(rs, "status");
+        int creatorColumn = ResultSetColumns.index(rs, "creator");
+        int dateColumn = ResultSetColumns.index(rs, "date");
+        int assigneeColumn = ResultSetColumns.index(rs, "assignee");
+        int messageColumn = ResultSetColumns.index(rs, "message");
+        int versionColumn = ResultSetColumns.index(rs, "version");
+
+        return (row, rowContext) -> {
+            int id = row.getInt(idColumn);
+            TicketStatus status = this.statusMapper.map(row, statusColumn, rowContext);
+            UUID creator = uuidMapper.map(row, creatorColumn, rowContext);
+            Instant date = row.getTimestamp(dateColumn).toInstant();
+            UUID assignee = uuidMapper.map(row, assigneeColumn, rowContext);
+            String message = row.getString(messageColumn);
+            int version = row.getInt(versionColumn);
 
-        return new TicketBuilder(id, status, creator, date, assignee, message);
+            return new TicketBuilder(id, status, creator, date, assignee, message, version);
+        };
     }
 
 }
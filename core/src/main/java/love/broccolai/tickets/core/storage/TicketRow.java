@@ -0,0 +1,13 @@
+package love.broccolai.tickets.core.storage;
+
+import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.core.model.TicketBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public record TicketRow(
+        int id,
+        @Nullable TicketBuilder ticket,
+        @Nullable Action action
+) {
+
+}
@@ -0,0 +1,65 @@
+package love.broccolai.tickets.core.storage;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.core.model.TicketBuilder;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Maps ticket/action join rows ordered by ticket id, only mapping the ticket columns on the first row of each ticket.
+ */
+public final class TicketRowMapper implements RowMapper<TicketRow> {
+
+    @Override
+    public TicketRow map(final ResultSet rs, final StatementContext ctx) throws SQLException {
+        return this.specialize(rs, ctx).map(rs, ctx);
+    }
+
+    @Override
+    public @NonNull RowMapper<TicketRow> specialize(final ResultSet rs, final StatementContext ctx) throws SQLException {
+        return new Specialized(
+                ctx.findRowMapperFor(TicketBuilder.class).orElseThrow(IllegalStateException::new).specialize(rs, ctx),
+                ctx.findRowMapperFor(Action.class).orElseThrow(IllegalStateException::new).specialize(rs, ctx),
+                ResultSetColumns.index(rs, "id"),
+                ResultSetColumns.index(rs, "type")
+        );
+    }
+
+    private static final class Specialized implements RowMapper<TicketRow> {
+
+        private final RowMapper<TicketBuilder> ticketMapper;
+        private final RowMapper<Action> actionMapper;
+        private final int idColumn;
+        private final int typeColumn;
+
+        private int lastId;
+
+        private Specialized(
+                final RowMapper<TicketBuilder> ticketMapper,
+                final RowMapper<Action> actionMapper,
+                final int idColumn,
+                final int typeColumn
+        ) {
+            this.ticketMapper = ticketMapper;
+            this.actionMapper = actionMapper;
+            this.idColumn = idColumn;
+            this.typeColumn = typeColumn;
+        }
+
+        @Override
+        public TicketRow map(final ResultSet rs, final StatementContext ctx) throws SQLException {
+            int id = rs.getInt(this.idColumn);
+            TicketBuilder ticket = id == this.lastId ? null : this.ticketMapper.map(rs, ctx);
+            Action action = rs.getString(this.typeColumn) == null ? null : this.actionMapper.map(rs, ctx);
+
+            this.lastId = id;
+
+            return new TicketRow(id, ticket, action);
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package love.broccolai.tickets.core.storage;
+
+import java.nio.ByteBuffer;
+import java.sql.Types;
+import java.util.UUID;
+import love.broccolai.tickets.core.storage.migration.BinaryUuidMigration;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.argument.AbstractArgumentFactory;
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.config.ConfigRegistry;
+
+/**
+ * How creator and assignee UUIDs are stored.
+ *
+ * <p>{@link #TEXT} is the original {@code varchar(36)} layout. {@link #BINARY} stores them as
+ * {@code BINARY(16)} and must be selected for both the migrations and the {@code TicketsJdbiPlugin}.</p>
+ */
+public enum UuidStorage {
+    TEXT,
+    BINARY;
+
+    public @NonNull FluentConfiguration configure(final @NonNull FluentConfiguration configuration) {
+        if (this == TEXT) {
+            return configuration;
+        }
+
+        // out of order so existing databases past version 3.1 can still switch to binary storage
+        return configuration.javaMigrations(new BinaryUuidMigration()).outOfOrder(true);
+    }
+
+    public void install(final @NonNull Jdbi jdbi) {
+        if (this == TEXT) {
+            return;
+        }
+
+        jdbi.registerArgument(new BinaryUuidArgumentFactory());
+        jdbi.registerColumnMapper(UUID.class, (rs, column, ctx) -> {
+            byte[] bytes = rs.getBytes(column);
+            return bytes == null ? null : fromBytes(bytes);
+        });
+    }
+
+    public static byte @NonNull [] toBytes(final @NonNull UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static @NonNull UUID fromBytes(final byte @NonNull [] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static final class BinaryUuidArgumentFactory extends AbstractArgumentFactory<UUID> {
+
+        private BinaryUuidArgumentFactory() {
+            super(Types.BINARY);
+        }
+
+        @Override
+        protected Argument build(final UUID value, final ConfigRegistry config) {
+            byte[] bytes = toBytes(value);
+            return (position, statement, ctx) -> statement.setBytes(position, bytes);
+        }
+
+    }
+
+}
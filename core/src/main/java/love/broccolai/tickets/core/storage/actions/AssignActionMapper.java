@@ -2,35 +2,28 @@ package love.broccolai.tickets.core.storage.actions;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.Instant;
-import java.util.Map;
-import java.util.UUID;
 import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.core.storage.ActionColumns;
 import love.broccolai.tickets.core.storage.ActionMapper;
-import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.statement.SqlStatement;
 import org.jdbi.v3.core.statement.StatementContext;
 
 public final class AssignActionMapper implements ActionMapper<AssignAction> {
 
     @Override
     public AssignAction map(
-            final ColumnMapper<UUID> mapper,
-            final Instant date,
+            final ActionColumns columns,
             final ResultSet rs,
             final StatementContext ctx
     ) throws SQLException {
-        UUID creator = mapper.map(rs, "action_creator", ctx);
-        UUID assignee = mapper.map(rs, "action_assignee", ctx);
-
-        return new AssignAction(date, creator, assignee);
+        return new AssignAction(columns.date(rs), columns.creator(rs, ctx), columns.assignee(rs, ctx));
     }
 
     @Override
-    public Map<Entries, Object> processBindables(final AssignAction action) {
-        return Map.of(
-                Entries.CREATOR, action.creator(),
-                Entries.ASSIGNEE, action.assignee()
-        );
+    public <S extends SqlStatement<S>> S bind(final S statement, final AssignAction action) {
+        return statement.bind(Entries.CREATOR.column(), action.creator())
+                .bind(Entries.ASSIGNEE.column(), action.assignee())
+                .bind(Entries.MESSAGE.column(), (String) null);
     }
 
 }
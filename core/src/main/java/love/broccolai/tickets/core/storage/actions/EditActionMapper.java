@@ -2,35 +2,29 @@ package love.broccolai.tickets.core.storage.actions;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.Instant;
-import java.util.Map;
 import java.util.UUID;
 import love.broccolai.tickets.api.model.action.EditAction;
+import love.broccolai.tickets.core.storage.ActionColumns;
 import love.broccolai.tickets.core.storage.ActionMapper;
-import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.statement.SqlStatement;
 import org.jdbi.v3.core.statement.StatementContext;
 
 public final class EditActionMapper implements ActionMapper<EditAction> {
 
     @Override
     public EditAction map(
-            final ColumnMapper<UUID> mapper,
-            final Instant date,
+            final ActionColumns columns,
             final ResultSet rs,
             final StatementContext ctx
     ) throws SQLException {
-        UUID creator = mapper.map(rs, "action_creator", ctx);
-        String message = rs.getString("action_message");
-
-        return new EditAction(date, creator, message);
+        return new EditAction(columns.date(rs), columns.creator(rs, ctx), columns.message(rs));
     }
 
     @Override
-    public Map<Entries, Object> processBindables(final EditAction action) {
-        return Map.of(
-                Entries.CREATOR, action.creator(),
-                Entries.MESSAGE, action.message()
-        );
+    public <S extends SqlStatement<S>> S bind(final S statement, final EditAction action) {
+        return statement.bind(Entries.CREATOR.column(), action.creator())
+                .bindByType(Entries.ASSIGNEE.column(), null, UUID.class)
+                .bind(Entries.MESSAGE.column(), action.message());
     }
 
 }
@@ -0,0 +1,208 @@
+package love.broccolai.tickets.core.storage.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import love.broccolai.tickets.core.storage.UuidStorage;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+
+/**
+ * Converts the {@code varchar(36)} creator and assignee columns of both tables to {@code BINARY(16)}.
+ *
+ * <p>Written in Java because text to binary UUID conversion has no portable SQL. Only applied when
+ * {@link UuidStorage#BINARY} is selected.</p>
+ *
+ * <p>MySQL commits every {@code ALTER TABLE} implicitly, so this runs outside a transaction and is written to resume.
+ * Each column is copied into {@code <column>_binary}, the text column dropped and the copy renamed. A rerun redoes
+ * a half filled copy, renames a copy whose text column is already gone and skips converted columns. To recover from a
+ * failed run, fix the cause, run {@code flyway repair} to clear the failed entry from the schema history and migrate
+ * again.</p>
+ */
+public final class BinaryUuidMigration implements JavaMigration {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final List<Column> COLUMNS = List.of(
+            new Column("tickets_ticket", "creator", false),
+            new Column("tickets_ticket", "assignee", true),
+            new Column("tickets_action", "creator", false),
+            new Column("tickets_action", "assignee", true)
+    );
+    // changes whenever the converted columns do, like the checksum of a SQL migration follows its script
+    private static final int CHECKSUM = checksum("BINARY(16) " + COLUMNS);
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("3.1");
+    }
+
+    @Override
+    public String getDescription() {
+        return "binary uuids";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return CHECKSUM;
+    }
+
+    @Override
+    public boolean isUndo() {
+        return false;
+    }
+
+    @Override
+    public boolean isBaselineMigration() {
+        return false;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(final Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        // only present when this runs out of order on a database already past version 5
+        boolean creatorIndex = this.hasIndex(connection, "tickets_ticket_status_creator")
+                || this.applied(connection, context.getConfiguration().getTable(), "5");
+
+        try (Statement statement = connection.createStatement()) {
+            if (this.hasIndex(connection, "tickets_ticket_status_assignee")) {
+                statement.execute("DROP INDEX tickets_ticket_status_assignee ON tickets_ticket");
+            }
+
+            if (this.hasIndex(connection, "tickets_ticket_status_creator")) {
+                statement.execute("DROP INDEX tickets_ticket_status_creator ON tickets_ticket");
+            }
+        }
+
+        for (final Column column : COLUMNS) {
+            this.convert(connection, column.table(), column.name(), column.nullable());
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX tickets_ticket_status_assignee ON tickets_ticket (`status`, `assignee`)");
+
+            if (creatorIndex) {
+                statement.execute("CREATE INDEX tickets_ticket_status_creator ON tickets_ticket (`status`, `creator`)");
+            }
+        }
+    }
+
+    private boolean applied(final Connection connection, final String historyTable, final String version) throws SQLException {
+        String query = "SELECT COUNT(*) FROM " + historyTable + " WHERE `version` = ? AND `success` = TRUE";
+
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, version);
+
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) > 0;
+            }
+        }
+    }
+
+    private @Nullable String columnType(final Connection connection, final String table, final String column) throws SQLException {
+        try (ResultSet rs = connection.getMetaData().getColumns(connection.getCatalog(), null, table, column)) {
+            return rs.next() ? rs.getString("TYPE_NAME") : null;
+        }
+    }
+
+    private boolean hasIndex(final Connection connection, final String index) throws SQLException {
+        try (ResultSet rs = connection.getMetaData().getIndexInfo(connection.getCatalog(), null, "tickets_ticket", false, false)) {
+            while (rs.next()) {
+                if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private void convert(
+            final Connection connection,
+            final String table,
+            final String column,
+            final boolean nullable
+    ) throws SQLException {
+        String binaryColumn = column + "_binary";
+        String type = this.columnType(connection, table, column);
+        boolean copied = this.columnType(connection, table, binaryColumn) != null;
+
+        if (type != null && type.toUpperCase(Locale.ROOT).contains("BINARY")) {
+            return;
+        }
+
+        if (type != null) {
+            try (Statement statement = connection.createStatement()) {
+                if (copied) {
+                    // left behind by a run that failed while filling it
+                    statement.execute("ALTER TABLE " + table + " DROP COLUMN `" + binaryColumn + "`");
+                }
+
+                statement.execute("ALTER TABLE " + table + " ADD COLUMN `" + binaryColumn + "` BINARY(16)");
+            }
+
+            this.copy(connection, table, column, binaryColumn);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE " + table + " DROP COLUMN `" + column + "`");
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " CHANGE `" + binaryColumn + "` `" + column + "` BINARY(16)"
+                    + (nullable ? " NULL" : " NOT NULL"));
+        }
+    }
+
+    private void copy(final Connection connection, final String table, final String column, final String binaryColumn) throws SQLException {
+        String select = "SELECT `id`, `" + column + "` FROM " + table + " WHERE `" + column + "` IS NOT NULL";
+        String update = "UPDATE " + table + " SET `" + binaryColumn + "` = ? WHERE `id` = ?";
+
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(select);
+                PreparedStatement batch = connection.prepareStatement(update)
+        ) {
+            int pending = 0;
+
+            while (rs.next()) {
+                batch.setBytes(1, UuidStorage.toBytes(UUID.fromString(rs.getString(2))));
+                batch.setInt(2, rs.getInt(1));
+                batch.addBatch();
+
+                if (++pending == BATCH_SIZE) {
+                    batch.executeBatch();
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0) {
+                batch.executeBatch();
+            }
+        }
+    }
+
+    private static int checksum(final String definition) {
+        CRC32 crc = new CRC32();
+        crc.update(definition.getBytes(StandardCharsets.UTF_8));
+
+        return (int) crc.getValue();
+    }
+
+    private record Column(String table, String name, boolean nullable) {
+    }
+
+}
@@ -0,0 +1,131 @@
+package love.broccolai.tickets.core.utilities;
+
+import com.google.inject.Singleton;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Runs blocking database work away from the calling thread.
+ *
+ * <p>At most {@code maximumPending} tasks may be queued or running at once, further submissions fail
+ * immediately with a {@link RejectedExecutionException} instead of blocking the caller.</p>
+ *
+ * <p>A timed out future does not interrupt its task, the task keeps its permit until it returns. Database work is bounded
+ * by the same {@link #timeout()} as a JDBC query timeout, see {@code DatabaseModule}, so the driver cancels the statement
+ * and the permit is released shortly after the future times out.</p>
+ */
+@Singleton
+public final class DatabaseExecutor implements AutoCloseable {
+
+    private static final int DEFAULT_THREADS = 4;
+    private static final int DEFAULT_MAXIMUM_PENDING = 256;
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final Duration timeout;
+
+    public DatabaseExecutor() {
+        this(DEFAULT_THREADS, DEFAULT_MAXIMUM_PENDING, DEFAULT_TIMEOUT);
+    }
+
+    public DatabaseExecutor(final int threads, final int maximumPending, final @NonNull Duration timeout) {
+        this.executor = createExecutor(threads);
+        this.permits = new Semaphore(maximumPending);
+        this.timeout = timeout;
+    }
+
+    public <T> @NonNull CompletableFuture<T> supply(final @NonNull Supplier<T> task) {
+        return this.supply(task, this.timeout);
+    }
+
+    public <T> @NonNull CompletableFuture<T> supply(final @NonNull Supplier<T> task, final @NonNull Duration timeout) {
+        if (!this.permits.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Database executor is saturated"));
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        try {
+            this.executor.execute(() -> {
+                try {
+                    if (!future.isDone()) {
+                        future.complete(task.get());
+                    }
+                } catch (final Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                } finally {
+                    this.permits.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            this.permits.release();
+            future.completeExceptionally(e);
+        }
+
+        return future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public @NonNull CompletableFuture<Void> run(final @NonNull Runnable task) {
+        return this.supply(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public @NonNull Duration timeout() {
+        return this.timeout;
+    }
+
+    public int availablePermits() {
+        return this.permits.availablePermits();
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+
+        try {
+            if (!this.executor.awaitTermination(this.timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                this.executor.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ExecutorService createExecutor(final int threads) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (final ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newFixedThreadPool(threads, new DatabaseThreadFactory());
+        }
+    }
+
+    private static final class DatabaseThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final @NonNull Runnable runnable) {
+            Thread thread = new Thread(runnable, "tickets-database-" + this.counter.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+
+    }
+
+}
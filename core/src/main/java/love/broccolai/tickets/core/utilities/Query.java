@@ -0,0 +1,95 @@
+package love.broccolai.tickets.core.utilities;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import love.broccolai.tickets.core.storage.SqlDialect;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jdbi.v3.core.locator.ClasspathSqlLocator;
+
+/**
+ * Every SQL file under {@code queries/}, loaded with its dialect overrides and checked once when this class is initialised.
+ *
+ * <p>Each constant declares the named parameters ({@code :name}) and defined attributes ({@code <name>}) its
+ * files must use, a missing file or a mismatch fails initialisation instead of the first statement using it.</p>
+ */
+public enum Query {
+    INSERT_TICKET("insert-ticket", "status", "creator", "date", "assignee", "message"),
+    SAVE_TICKET("save-ticket", "id", "version", "status", "assignee", "message"),
+    INSERT_ACTION("insert-action", "ticket", "type", "creator", "date", "assignee", "message"),
+    SELECT_TICKETS("select-tickets", "ids"),
+    SELECT_TICKET_HEADERS("select-ticket-headers", "ids"),
+    SELECT_ACTIONS("select-actions", "ids"),
+    FIND_TICKETS("find-tickets", "filters"),
+    FIND_TICKET_HEADERS("find-ticket-headers", "filters"),
+    FIND_TICKETS_PAGE("find-tickets-page", "filters", "after", "limit"),
+    FIND_TICKET_HEADERS_PAGE("find-ticket-headers-page", "filters", "after", "limit"),
+    AVERAGE_LIFESPAN("average-lifespan", "status", "since"),
+    LIFESPAN_PERCENTILE("lifespan-percentile", "status", "since", "percentile"),
+    AVERAGE_FIRST_ASSIGN("average-first-assign", "since"),
+    HOURLY_ACTIVITY("hourly-activity", "origin"),
+    CLOSED_PER_ASSIGNEE("closed-per-assignee", "status", "since"),
+    COUNT_TICKETS_BY_CREATOR("count-tickets-by-creator", "status");
+
+    private static final Pattern PARAMETERS = Pattern.compile("'[^']*'|(?<![:\\w]):(\\w+)|<(\\w+)>");
+
+    static {
+        ClasspathSqlLocator locator = ClasspathSqlLocator.removingComments();
+        ClassLoader classLoader = Query.class.getClassLoader();
+
+        for (final Query query : values()) {
+            String sql = locator.getResource(classLoader, SqlDialect.MYSQL.queryPath(query.name));
+
+            for (final SqlDialect dialect : SqlDialect.values()) {
+                String path = dialect.queryPath(query.name);
+                String dialectSql = classLoader.getResource(path) == null ? sql : locator.getResource(classLoader, path);
+                Set<String> found = parameters(dialectSql);
+
+                if (!found.equals(query.parameters)) {
+                    throw new IllegalStateException(
+                            "Query " + path + " uses parameters " + found + " but declares " + query.parameters
+                    );
+                }
+
+                query.sql.put(dialect, dialectSql);
+            }
+        }
+    }
+
+    private final String name;
+    private final Set<String> parameters;
+    private final Map<SqlDialect, String> sql = new EnumMap<>(SqlDialect.class);
+
+    Query(final @NonNull String name, final @NonNull String @NonNull... parameters) {
+        this.name = name;
+        this.parameters = new TreeSet<>(Set.of(parameters));
+    }
+
+    public @NonNull String sql(final @NonNull SqlDialect dialect) {
+        return this.sql.get(dialect);
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    static @NonNull Set<String> parameters(final @NonNull String sql) {
+        Set<String> parameters = new TreeSet<>();
+        Matcher matcher = PARAMETERS.matcher(sql);
+
+        while (matcher.find()) {
+            String parameter = matcher.group(1) == null ? matcher.group(2) : matcher.group(1);
+
+            if (parameter != null) {
+                parameters.add(parameter);
+            }
+        }
+
+        return parameters;
+    }
+
+}
@@ -0,0 +1,50 @@
+package love.broccolai.tickets.core.utilities;
+
+import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.api.model.action.CloseAction;
+import love.broccolai.tickets.api.model.action.EditAction;
+import love.broccolai.tickets.core.storage.ActionTypeRegistry;
+import love.broccolai.tickets.core.storage.DelegatingActionMapper;
+import love.broccolai.tickets.core.storage.DialectConfig;
+import love.broccolai.tickets.core.storage.SqlDialect;
+import love.broccolai.tickets.core.storage.TicketMapper;
+import love.broccolai.tickets.core.storage.UuidStorage;
+import love.broccolai.tickets.core.storage.actions.AssignActionMapper;
+import love.broccolai.tickets.core.storage.actions.CloseActionMapper;
+import love.broccolai.tickets.core.storage.actions.EditActionMapper;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.spi.JdbiPlugin;
+
+public final class TicketsJdbiPlugin implements JdbiPlugin {
+
+    private final UuidStorage uuidStorage;
+    private final SqlDialect dialect;
+
+    public TicketsJdbiPlugin() {
+        this(UuidStorage.TEXT);
+    }
+
+    public TicketsJdbiPlugin(final @NonNull UuidStorage uuidStorage) {
+        this(uuidStorage, SqlDialect.MYSQL);
+    }
+
+    public TicketsJdbiPlugin(final @NonNull UuidStorage uuidStorage, final @NonNull SqlDialect dialect) {
+        this.uuidStorage = uuidStorage;
+        this.dialect = dialect;
+    }
+
+    @Override
+    public void customizeJdbi(final Jdbi jdbi) {
+        this.uuidStorage.install(jdbi);
+        jdbi.getConfig(DialectConfig.class).dialect(this.dialect);
+
+        jdbi.getConfig(ActionTypeRegistry.class)
+                .register("ASSIGN", AssignAction.class, new AssignActionMapper())
+                .register("CLOSE", CloseAction.class, new CloseActionMapper())
+                .register("EDIT", EditAction.class, new EditActionMapper());
+
+        jdbi.registerRowMapper(new TicketMapper()).registerRowMapper(new DelegatingActionMapper());
+    }
+
+}
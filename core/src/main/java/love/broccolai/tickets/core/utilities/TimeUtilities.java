@@ -1,16 +1,30 @@
 package love.broccolai.tickets.core.utilities;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
 public final class TimeUtilities {
 
+    private static volatile Clock clock = Clock.systemUTC();
+
     private TimeUtilities() {
     }
 
+    public static @NonNull Instant now() {
+        return clock.instant();
+    }
+
     public static @NonNull Instant nowTruncated() {
-        return Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        return now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    /**
+     * Replaces the clock behind {@link #now()}, for tests that depend on hour boundaries.
+     */
+    public static void clock(final @NonNull Clock clock) {
+        TimeUtilities.clock = clock;
     }
 
 }
@@ -0,0 +1,7 @@
+SELECT AVG(TIMESTAMPDIFF(SECOND, t.date, (SELECT MAX(a.date)
+                                          FROM tickets_action as a
+                                          WHERE a.ticket = t.id
+                                            AND a.type = 'CLOSE')))
+FROM tickets_ticket as t
+WHERE t.status = :status
+  AND t.date > :since;
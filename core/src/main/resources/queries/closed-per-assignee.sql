@@ -0,0 +1,6 @@
+SELECT t.assignee, COUNT(*) as closed
+FROM tickets_ticket as t
+WHERE t.status = :status
+  AND t.assignee IS NOT NULL
+  AND t.date > :since
+GROUP BY t.assignee;
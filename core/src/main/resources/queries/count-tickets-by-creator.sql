@@ -0,0 +1,4 @@
+SELECT t.creator, COUNT(*) as tickets
+FROM tickets_ticket as t
+WHERE t.status = :status
+GROUP BY t.creator;
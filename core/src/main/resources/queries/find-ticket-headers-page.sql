@@ -0,0 +1,7 @@
+SELECT t.id, t.status, t.creator, t.date, t.assignee, t.message, t.version,
+       (SELECT COUNT(*) FROM tickets_action as a WHERE a.ticket = t.id) as action_count
+FROM tickets_ticket as t
+WHERE <filters>
+  AND t.id > :after
+ORDER BY t.id
+LIMIT :limit;
@@ -0,0 +1,5 @@
+SELECT t.id, t.status, t.creator, t.date, t.assignee, t.message, t.version,
+       (SELECT COUNT(*) FROM tickets_action as a WHERE a.ticket = t.id) as action_count
+FROM tickets_ticket as t
+WHERE <filters>
+ORDER BY t.id;
@@ -0,0 +1,11 @@
+SELECT p.id, p.status, p.creator, p.date, p.assignee, p.message, p.version,
+       a.type, a.creator as action_creator, a.date as action_date, a.message as action_message, a.assignee as action_assignee
+FROM (SELECT t.id, t.status, t.creator, t.date, t.assignee, t.message, t.version
+      FROM tickets_ticket as t
+      WHERE <filters>
+        AND t.id > :after
+      ORDER BY t.id
+      LIMIT :limit) as p
+         LEFT JOIN tickets_action as a
+                   ON (p.id = a.ticket)
+ORDER BY p.id, a.id;
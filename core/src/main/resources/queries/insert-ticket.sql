@@ -1,3 +1,2 @@
-INSERT INTO tickets_ticket(`status`, `creator`, `date`, `message`)
-VALUES ('OPEN', :creator, :date, :message);
-SELECT LAST_INSERT_ID();
+INSERT INTO tickets_ticket(status, creator, date, assignee, message)
+VALUES (:status, :creator, :date, :assignee, :message);
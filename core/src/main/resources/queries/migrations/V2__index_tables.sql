@@ -0,0 +1,23 @@
+CREATE TABLE tickets_action_indexed
+(
+    `id` int NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    `type` varchar(36) NOT NULL,
+    `ticket` int NOT NULL,
+    `creator` varchar(36) NOT NULL,
+    `date` timestamp NOT NULL,
+    `message` varchar(1024) NULL,
+    `assignee` varchar(36) NULL
+);
+
+INSERT INTO tickets_action_indexed(`type`, `ticket`, `creator`, `date`, `message`, `assignee`)
+SELECT `type`, `ticket`, `creator`, `date`, `message`, `assignee`
+FROM tickets_action
+ORDER BY `ticket`, `date`;
+
+DROP TABLE tickets_action;
+
+ALTER TABLE tickets_action_indexed RENAME TO tickets_action;
+
+CREATE INDEX tickets_action_ticket_date ON tickets_action (`ticket`, `date`);
+CREATE INDEX tickets_ticket_status_date ON tickets_ticket (`status`, `date`);
+CREATE INDEX tickets_ticket_status_assignee ON tickets_ticket (`status`, `assignee`);
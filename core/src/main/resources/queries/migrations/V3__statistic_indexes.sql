@@ -0,0 +1,2 @@
+CREATE INDEX tickets_ticket_date ON tickets_ticket (`date`);
+CREATE INDEX tickets_action_type_date ON tickets_action (`type`, `date`);
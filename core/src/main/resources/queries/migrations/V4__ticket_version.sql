@@ -0,0 +1 @@
+ALTER TABLE tickets_ticket ADD COLUMN `version` int NOT NULL DEFAULT 0;
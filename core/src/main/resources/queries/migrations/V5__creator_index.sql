@@ -0,0 +1 @@
+CREATE INDEX tickets_ticket_status_creator ON tickets_ticket (`status`, `creator`);
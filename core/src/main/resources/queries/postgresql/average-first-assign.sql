@@ -0,0 +1,7 @@
+SELECT AVG(EXTRACT(EPOCH FROM f.assigned - f.date))
+FROM (SELECT t.date, MIN(a.date) as assigned
+      FROM tickets_ticket as t
+               JOIN tickets_action as a
+                    ON (a.ticket = t.id AND a.type = 'ASSIGN')
+      WHERE t.date > :since
+      GROUP BY t.id, t.date) as f;
@@ -0,0 +1,7 @@
+SELECT AVG(EXTRACT(EPOCH FROM (SELECT MAX(a.date)
+                               FROM tickets_action as a
+                               WHERE a.ticket = t.id
+                                 AND a.type = 'CLOSE') - t.date))
+FROM tickets_ticket as t
+WHERE t.status = :status
+  AND t.date > :since;
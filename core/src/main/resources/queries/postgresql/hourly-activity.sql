@@ -0,0 +1,11 @@
+SELECT b.bucket, SUM(b.opened) as opened, SUM(b.closed) as closed
+FROM (SELECT FLOOR(EXTRACT(EPOCH FROM t.date - CAST(:origin AS TIMESTAMP)) / 3600) as bucket, 1 as opened, 0 as closed
+      FROM tickets_ticket as t
+      WHERE t.date >= :origin
+      UNION ALL
+      SELECT FLOOR(EXTRACT(EPOCH FROM a.date - CAST(:origin AS TIMESTAMP)) / 3600) as bucket, 0 as opened, 1 as closed
+      FROM tickets_action as a
+      WHERE a.type = 'CLOSE'
+        AND a.date >= :origin) as b
+GROUP BY b.bucket
+ORDER BY b.bucket;
@@ -0,0 +1,12 @@
+SELECT MIN(r.lifespan)
+FROM (SELECT l.lifespan,
+             ROW_NUMBER() OVER (ORDER BY l.lifespan) as lifespan_rank,
+             COUNT(*) OVER () as lifespan_count
+      FROM (SELECT EXTRACT(EPOCH FROM MAX(a.date) - t.date) as lifespan
+            FROM tickets_ticket as t
+                     JOIN tickets_action as a
+                          ON (a.ticket = t.id AND a.type = 'CLOSE')
+            WHERE t.status = :status
+              AND t.date > :since
+            GROUP BY t.id, t.date) as l) as r
+WHERE r.lifespan_rank >= CEIL(CAST(:percentile AS DECIMAL(10, 9)) * r.lifespan_count);
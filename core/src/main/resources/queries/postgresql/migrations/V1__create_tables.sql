@@ -0,0 +1,20 @@
+CREATE TABLE tickets_ticket
+(
+    id serial PRIMARY KEY,
+    status varchar(36) NOT NULL,
+    creator uuid NOT NULL,
+    date timestamp,
+    assignee uuid,
+    message varchar(1024)
+);
+
+CREATE TABLE tickets_action
+(
+    id serial PRIMARY KEY,
+    type varchar(36) NOT NULL,
+    ticket int NOT NULL,
+    creator uuid NOT NULL,
+    date timestamp NOT NULL,
+    message varchar(1024) NULL,
+    assignee uuid NULL
+);
@@ -0,0 +1,3 @@
+CREATE INDEX tickets_action_ticket_date ON tickets_action (ticket, date);
+CREATE INDEX tickets_ticket_status_date ON tickets_ticket (status, date);
+CREATE INDEX tickets_ticket_status_assignee ON tickets_ticket (status, assignee);
@@ -1,3 +1,4 @@
 UPDATE tickets_ticket
-SET status = :status, assignee = :assignee, message = :message
+SET status = :status, assignee = :assignee, message = :message, version = version + 1
 WHERE id = :id
+  AND version = :version
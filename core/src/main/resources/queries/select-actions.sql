@@ -0,0 +1,5 @@
+SELECT a.ticket, a.type, a.creator as action_creator, a.date as action_date, a.message as action_message,
+       a.assignee as action_assignee
+FROM tickets_action as a
+WHERE a.ticket IN (<ids>)
+ORDER BY a.ticket, a.id;
@@ -0,0 +1,73 @@
+package love.broccolai.tickets.api.collection;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class IntObjectMapTest {
+
+    @Test
+    void keepsInsertionOrderWhenGrowing() {
+        IntObjectMap<String> map = new IntObjectMap<>(1);
+
+        for (int i = 100; i > 0; i--) {
+            map.put(i * 1024, "value " + i);
+        }
+
+        assertThat(map).hasSize(100);
+        assertThat(map.keyAt(0)).isEqualTo(100 * 1024);
+        assertThat(map.valueAt(99)).isEqualTo("value 1");
+        assertThat(map.get(50 * 1024)).isEqualTo("value 50");
+        assertThat(map.get(50)).isNull();
+    }
+
+    @Test
+    void putReplacesInPlace() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        map.put(1, "first");
+        map.put(2, "second");
+
+        assertThat(map.put(1, "replaced")).isEqualTo("first");
+        assertThat(map).containsExactly(1, "replaced", 2, "second").inOrder();
+    }
+
+    @Test
+    void removeKeepsOrderAndLookups() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+
+        for (int i = 0; i < 8; i++) {
+            map.put(i * 16, "value " + i);
+        }
+
+        assertThat(map.remove(32)).isEqualTo("value 2");
+        assertThat(map.remove(32)).isNull();
+        assertThat(map.remove((Object) 48)).isEqualTo("value 3");
+        assertThat(map.values().remove("value 0")).isTrue();
+        map.entrySet().removeIf(entry -> entry.getKey() == 96);
+
+        assertThat(map.keySet()).containsExactly(16, 64, 80, 112).inOrder();
+        assertThat(map.get(112)).isEqualTo("value 7");
+        assertThat(map.containsKey(0)).isFalse();
+
+        map.put(32, "again");
+        assertThat(map.keyAt(4)).isEqualTo(32);
+
+        map.clear();
+        assertThat(map).isEmpty();
+        assertThat(map.get(16)).isNull();
+    }
+
+    @Test
+    void mapValuesKeepsKeys() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        map.put(-7, "a");
+        map.put(3, "bb");
+
+        IntObjectMap<String> upper = map.mapValues(String::toUpperCase);
+        upper.put(4, "C");
+
+        assertThat(upper).containsExactly(-7, "A", 3, "BB", 4, "C").inOrder();
+        assertThat(map).hasSize(2);
+    }
+
+}
@@ -0,0 +1,75 @@
+package love.broccolai.tickets.core.database;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import java.util.UUID;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.storage.ChunkedFetch;
+import love.broccolai.tickets.core.storage.UuidStorage;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.yaml.YamlConfigurationLoader;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class DatabaseModuleTest {
+
+    @Test
+    void defaults() throws ConfigurateException {
+        DatabaseConfiguration configuration = load("type: MYSQL\nhost: db\n");
+
+        assertThat(configuration.jdbcUrl()).isEqualTo("jdbc:mysql://db:3306/tickets");
+        assertThat(configuration.uuidStorage()).isEqualTo(UuidStorage.TEXT);
+        assertThat(configuration.pool().maximumPoolSize()).isEqualTo(10);
+        assertThat(configuration.statementCache().enabled()).isTrue();
+        assertThat(configuration.type().dataSourceProperties(configuration.statementCache()))
+                .containsEntry("prepStmtCacheSize", "250");
+    }
+
+    @Test
+    void defaultPortFollowsType() throws ConfigurateException {
+        assertThat(load("type: POSTGRESQL\n").jdbcUrl()).isEqualTo("jdbc:postgresql://localhost:5432/tickets");
+        assertThat(load("type: POSTGRESQL\nport: 6432\n").jdbcUrl()).isEqualTo("jdbc:postgresql://localhost:6432/tickets");
+    }
+
+    @Test
+    void providesPooledStorage() throws ConfigurateException {
+        DatabaseConfiguration configuration = load("""
+                type: H2
+                url: "jdbc:h2:mem:%s;MODE=MySQL;DATABASE_TO_LOWER=TRUE"
+                uuid-storage: BINARY
+                pool:
+                  maximum-pool-size: 2
+                  minimum-idle: 1
+                """.formatted(UUID.randomUUID()));
+
+        assertThat(configuration.pool().maximumPoolSize()).isEqualTo(2);
+
+        Injector injector = Guice.createInjector(new DatabaseModule(configuration));
+
+        try (
+                ConnectionPool pool = injector.getInstance(ConnectionPool.class);
+                ChunkedFetch ignored = injector.getInstance(ChunkedFetch.class)
+        ) {
+            StorageService storageService = injector.getInstance(StorageService.class);
+            Ticket ticket = storageService.createTicket(UUID.randomUUID(), "Hello!");
+
+            assertThat(storageService.selectTicket(ticket.id())).isEqualTo(ticket);
+
+            PoolMetrics metrics = pool.metrics();
+
+            assertThat(metrics.acquisitions()).isGreaterThan(0);
+            assertThat(metrics.activeConnections()).isEqualTo(0);
+            assertThat(metrics.totalConnections()).isAtMost(2);
+            assertThat(metrics.timeouts()).isEqualTo(0);
+        }
+    }
+
+    private static DatabaseConfiguration load(final String yaml) throws ConfigurateException {
+        return YamlConfigurationLoader.builder()
+                .buildAndLoadString(yaml)
+                .get(DatabaseConfiguration.class);
+    }
+
+}
@@ -0,0 +1,223 @@
+package love.broccolai.tickets.core.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketActivity;
+import love.broccolai.tickets.api.model.TicketDraft;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.api.model.action.CloseAction;
+import love.broccolai.tickets.api.service.ModificationService;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.utilities.TicketsH2Extension;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+class AggregatingStatisticServiceTest {
+
+    // half past, so nothing a test creates crosses into another hour
+    private static final Instant NOW = Instant.parse("2026-01-01T12:30:00Z");
+
+    @RegisterExtension
+    private final JdbiExtension h2Extension = TicketsH2Extension.instance();
+
+    private StorageService databaseStorageService;
+    private AggregatingStatisticService statisticService;
+    private StorageService storageService;
+    private ModificationService modificationService;
+    private int ticketIds;
+
+    @BeforeEach
+    void setupEach() {
+        TimeUtilities.clock(Clock.fixed(NOW, ZoneOffset.UTC));
+        this.databaseStorageService = new DatabaseStorageService(this.h2Extension.getJdbi());
+        this.statisticService = new AggregatingStatisticService(this.databaseStorageService);
+        this.storageService = new ListeningStorageService(this.databaseStorageService, List.of(this.statisticService));
+        this.modificationService = new ListeningModificationService(
+                new SimpleModificationService(this.storageService),
+                List.of(this.statisticService)
+        );
+    }
+
+    @AfterEach
+    void teardownEach() {
+        TimeUtilities.clock(Clock.systemUTC());
+    }
+
+    @Test
+    void tracksModifications() {
+        UUID assignee = UUID.randomUUID();
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "");
+        this.storageService.createTicket(UUID.randomUUID(), "");
+
+        this.modificationService.assign(ticket, UUID.randomUUID(), assignee);
+        this.modificationService.close(ticket, UUID.randomUUID(), null);
+
+        List<TicketActivity> activity = this.statisticService.hourlyTicketActivity(Duration.ofHours(2));
+        TicketActivity current = activity.get(activity.size() - 1);
+
+        assertThat(current.opened()).isEqualTo(2);
+        assertThat(current.closed()).isEqualTo(1);
+        assertThat(this.statisticService.closedTicketsPerAssignee(Duration.ofHours(1))).containsExactly(assignee, 1L);
+    }
+
+    @Test
+    void lifespanStatistics() {
+        Instant created = TimeUtilities.nowTruncated().minus(20, ChronoUnit.MINUTES);
+
+        for (int i = 1; i <= 10; i++) {
+            this.close(this.ticket(created), created.plus(i, ChronoUnit.MINUTES));
+        }
+
+        assertThat(this.statisticService.averageTicketsLifespan(Duration.ofHours(1))).isEqualTo(Duration.ofSeconds(330));
+        assertWithin(this.statisticService.ticketsLifespanPercentile(Duration.ofHours(1), 0.5), Duration.ofMinutes(5));
+        assertWithin(this.statisticService.ticketsLifespanPercentile(Duration.ofHours(1), 1), Duration.ofMinutes(10));
+    }
+
+    @Test
+    void countsFirstAssignAndLastClose() {
+        Instant created = TimeUtilities.nowTruncated().minus(20, ChronoUnit.MINUTES);
+        Ticket ticket = this.ticket(created);
+        UUID assignee = UUID.randomUUID();
+
+        this.apply(ticket, new AssignAction(created.plus(2, ChronoUnit.MINUTES), UUID.randomUUID(), UUID.randomUUID()));
+        this.apply(ticket, new AssignAction(created.plus(8, ChronoUnit.MINUTES), UUID.randomUUID(), assignee));
+        this.close(ticket, created.plus(10, ChronoUnit.MINUTES));
+        this.close(ticket, created.plus(12, ChronoUnit.MINUTES));
+
+        List<TicketActivity> activity = this.statisticService.hourlyTicketActivity(Duration.ofHours(2));
+
+        assertThat(this.statisticService.averageTimeToFirstAssign(Duration.ofHours(1))).isEqualTo(Duration.ofMinutes(2));
+        assertThat(this.statisticService.averageTicketsLifespan(Duration.ofHours(1))).isEqualTo(Duration.ofMinutes(12));
+        assertWithin(this.statisticService.ticketsLifespanPercentile(Duration.ofHours(1), 1), Duration.ofMinutes(12));
+        assertThat(this.statisticService.closedTicketsPerAssignee(Duration.ofHours(1))).containsExactly(assignee, 1L);
+        assertThat(activity.stream().mapToLong(TicketActivity::closed).sum()).isEqualTo(2);
+    }
+
+    @Test
+    void firstAssignIsTrackedPerTicketWithoutReadingHistory() {
+        Instant created = TimeUtilities.nowTruncated().minus(20, ChronoUnit.MINUTES);
+        Ticket ticket = new Ticket(++this.ticketIds, TicketStatus.OPEN, UUID.randomUUID(), created, null, "", List.of());
+        this.statisticService.ticketCreated(ticket);
+
+        // the history is left empty, so only the events themselves can tell which assignment came first
+        for (final int minutes : new int[]{6, 9, 4}) {
+            Action assign = new AssignAction(created.plus(minutes, ChronoUnit.MINUTES), UUID.randomUUID(), UUID.randomUUID());
+            this.statisticService.actionApplied(ticket, assign);
+        }
+
+        assertThat(this.statisticService.averageTimeToFirstAssign(Duration.ofHours(1))).isEqualTo(Duration.ofMinutes(4));
+    }
+
+    @Test
+    void ignoresTicketsOutsideRetention() {
+        AggregatingStatisticService statisticService = new AggregatingStatisticService(this.databaseStorageService, Duration.ofDays(1));
+        Instant created = TimeUtilities.now().minus(2, ChronoUnit.DAYS);
+        Ticket ticket = new Ticket(1, TicketStatus.OPEN, UUID.randomUUID(), created, null, "", new ArrayList<>());
+        Action close = new CloseAction(TimeUtilities.now(), UUID.randomUUID(), null);
+
+        ticket.actions().add(close);
+        statisticService.ticketCreated(ticket);
+        statisticService.actionApplied(ticket, close);
+
+        assertThat(statisticService.averageTicketsLifespan(Duration.ofDays(7))).isEqualTo(Duration.ZERO);
+        assertThat(statisticService.hourlyTicketActivity(Duration.ofDays(1)).stream().mapToLong(TicketActivity::closed).sum()).isEqualTo(1);
+    }
+
+    @Test
+    void bootstrap() {
+        Ticket ticket = this.databaseStorageService.createTicket(UUID.randomUUID(), "");
+        ticket.apply(new CloseAction(ticket.date().plus(5, ChronoUnit.MINUTES), UUID.randomUUID(), null));
+        this.databaseStorageService.saveTicket(ticket);
+        this.databaseStorageService.createTicket(UUID.randomUUID(), "");
+
+        AggregatingStatisticService statisticService = new AggregatingStatisticService(this.databaseStorageService);
+        statisticService.bootstrap();
+        statisticService.bootstrap();
+
+        List<TicketActivity> activity = statisticService.hourlyTicketActivity(Duration.ofHours(1));
+
+        assertThat(activity.get(activity.size() - 1).opened()).isEqualTo(2);
+        assertThat(statisticService.averageTicketsLifespan(Duration.ofHours(1))).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void bootstrapCountsClosesOfTicketsCreatedBeforeRetention() {
+        Instant created = TimeUtilities.nowTruncated().minus(2, ChronoUnit.DAYS);
+        Ticket ticket = this.databaseStorageService.createTickets(List.of(
+                new TicketDraft(TicketStatus.OPEN, UUID.randomUUID(), created, null, "")
+        )).get(0);
+
+        ticket.apply(new CloseAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), null));
+        this.databaseStorageService.saveTicket(ticket);
+
+        AggregatingStatisticService statisticService = new AggregatingStatisticService(this.databaseStorageService, Duration.ofDays(1));
+        statisticService.bootstrap();
+
+        List<TicketActivity> activity = statisticService.hourlyTicketActivity(Duration.ofDays(1));
+
+        assertThat(activity.stream().mapToLong(TicketActivity::opened).sum()).isEqualTo(0);
+        assertThat(activity.stream().mapToLong(TicketActivity::closed).sum()).isEqualTo(1);
+    }
+
+    @Test
+    void bootstrapAppliesEventsArrivingMeanwhileOnce() {
+        StorageService storageService = spy(this.databaseStorageService);
+        AggregatingStatisticService statisticService = new AggregatingStatisticService(storageService);
+        Ticket streamed = this.databaseStorageService.createTicket(UUID.randomUUID(), "");
+
+        doAnswer(invocation -> {
+            statisticService.ticketCreated(streamed);
+            return invocation.callRealMethod();
+        }).when(storageService).streamTickets(eq(TicketStatus.OPEN), any(), any());
+        doAnswer(invocation -> {
+            statisticService.ticketCreated(this.databaseStorageService.createTicket(UUID.randomUUID(), ""));
+            return invocation.callRealMethod();
+        }).when(storageService).streamTickets(eq(TicketStatus.CLOSED), any(), any());
+
+        statisticService.bootstrap();
+
+        List<TicketActivity> activity = statisticService.hourlyTicketActivity(Duration.ofHours(1));
+
+        assertThat(activity.get(activity.size() - 1).opened()).isEqualTo(2);
+    }
+
+    private Ticket ticket(final Instant date) {
+        Ticket ticket = new Ticket(++this.ticketIds, TicketStatus.OPEN, UUID.randomUUID(), date, null, "", new ArrayList<>());
+        this.statisticService.ticketCreated(ticket);
+
+        return ticket;
+    }
+
+    private void close(final Ticket ticket, final Instant date) {
+        this.apply(ticket, new CloseAction(date, UUID.randomUUID(), null));
+    }
+
+    private void apply(final Ticket ticket, final Action action) {
+        ticket.apply(action);
+        this.statisticService.actionApplied(ticket, action);
+    }
+
+    private static void assertWithin(final Duration actual, final Duration expected) {
+        assertThat((double) actual.toSeconds()).isWithin(expected.toSeconds() * 0.04).of(expected.toSeconds());
+    }
+
+}
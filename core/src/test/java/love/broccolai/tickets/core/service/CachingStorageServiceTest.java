@@ -0,0 +1,157 @@
+package love.broccolai.tickets.core.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import love.broccolai.tickets.api.collection.IntObjectMap;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingStorageServiceTest {
+
+    private final StorageService delegate = mock(StorageService.class);
+
+    private CachingStorageService storageService;
+
+    @BeforeEach
+    void setupEach() {
+        this.storageService = new CachingStorageService(this.delegate);
+    }
+
+    @Test
+    void selectTicketIsCached() {
+        Ticket ticket = this.ticket(1);
+        when(this.delegate.selectTicket(1)).thenReturn(ticket);
+
+        assertThat(this.storageService.selectTicket(1)).isSameInstanceAs(ticket);
+        assertThat(this.storageService.selectTicket(1)).isSameInstanceAs(ticket);
+
+        verify(this.delegate, times(1)).selectTicket(1);
+        assertThat(this.storageService.stats().hitCount()).isEqualTo(1);
+        assertThat(this.storageService.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void selectTicketsOnlyLoadsMissing() {
+        Ticket first = this.ticket(1);
+        Ticket second = this.ticket(2);
+
+        when(this.delegate.selectTicket(1)).thenReturn(first);
+        IntObjectMap<Ticket> loaded = new IntObjectMap<>();
+        loaded.put(2, second);
+        when(this.delegate.selectTickets(2)).thenReturn(loaded);
+
+        this.storageService.selectTicket(1);
+        Map<Integer, Ticket> tickets = this.storageService.selectTickets(1, 2);
+
+        assertThat(tickets).containsExactly(1, first, 2, second).inOrder();
+        verify(this.delegate).selectTickets(2);
+    }
+
+    @Test
+    void createTicketIsCached() {
+        Ticket ticket = this.ticket(1);
+        when(this.delegate.createTicket(any(), any())).thenReturn(ticket);
+
+        this.storageService.createTicket(ticket.creator(), ticket.message());
+
+        assertThat(this.storageService.selectTicket(1)).isSameInstanceAs(ticket);
+        verify(this.delegate, never()).selectTicket(anyInt());
+    }
+
+    @Test
+    void findTicketsPrefersCachedInstances() {
+        Ticket cached = this.ticket(1);
+        Ticket loaded = this.ticket(1);
+
+        when(this.delegate.selectTicket(1)).thenReturn(cached);
+        when(this.delegate.findTickets(TicketStatus.OPEN, null, null)).thenReturn(List.of(loaded));
+
+        this.storageService.selectTicket(1);
+
+        assertThat(this.storageService.findTickets(TicketStatus.OPEN, null, null)).containsExactly(cached);
+        assertThat(this.storageService.findTickets(TicketStatus.OPEN, null, null).iterator().next()).isSameInstanceAs(cached);
+    }
+
+    @Test
+    void findTicketsDoesNotPopulateCache() {
+        Ticket loaded = this.ticket(1);
+        Ticket selected = this.ticket(1);
+
+        when(this.delegate.findTickets(TicketStatus.OPEN, null, null)).thenReturn(List.of(loaded));
+        when(this.delegate.selectTicket(1)).thenReturn(selected);
+
+        this.storageService.findTickets(TicketStatus.OPEN, null, null);
+
+        assertThat(this.storageService.selectTicket(1)).isSameInstanceAs(selected);
+        verify(this.delegate).selectTicket(1);
+    }
+
+    @Test
+    void findTicketsReplacesStaleCachedInstances() {
+        Ticket cached = this.ticket(1, 0);
+        Ticket loaded = this.ticket(1, 1);
+
+        when(this.delegate.selectTicket(1)).thenReturn(cached);
+        when(this.delegate.findTickets(TicketStatus.OPEN, null, null)).thenReturn(List.of(loaded));
+
+        this.storageService.selectTicket(1);
+
+        assertThat(this.storageService.findTickets(TicketStatus.OPEN, null, null).iterator().next()).isSameInstanceAs(loaded);
+        assertThat(this.storageService.selectTicket(1)).isSameInstanceAs(loaded);
+    }
+
+    @Test
+    void streamTicketsPrefersCachedInstances() {
+        Ticket cached = this.ticket(1);
+        Ticket loaded = this.ticket(1);
+        Ticket uncached = this.ticket(2);
+
+        when(this.delegate.selectTicket(1)).thenReturn(cached);
+        when(this.delegate.streamTickets(TicketStatus.OPEN, null, null)).thenReturn(Stream.of(loaded, uncached));
+
+        this.storageService.selectTicket(1);
+
+        try (Stream<Ticket> tickets = this.storageService.streamTickets(TicketStatus.OPEN, null, null)) {
+            List<Ticket> result = tickets.toList();
+
+            assertThat(result.get(0)).isSameInstanceAs(cached);
+            assertThat(result.get(1)).isSameInstanceAs(uncached);
+        }
+
+        assertThat(this.storageService.stats().requestCount()).isEqualTo(1);
+    }
+
+    private Ticket ticket(final int id) {
+        return this.ticket(id, 0);
+    }
+
+    private Ticket ticket(final int id, final int version) {
+        return new Ticket(
+                id,
+                TicketStatus.OPEN,
+                UUID.randomUUID(),
+                TimeUtilities.nowTruncated(),
+                null,
+                "Test Message",
+                new ArrayList<>(),
+                version
+        );
+    }
+
+}
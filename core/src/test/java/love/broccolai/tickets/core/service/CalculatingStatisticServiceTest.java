@@ -17,6 +17,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class CalculatingStatisticServiceTest {
 
@@ -54,4 +55,14 @@ class CalculatingStatisticServiceTest {
         assertThat(duration).isLessThan(Duration.ofMinutes(6));
     }
 
+    @Test
+    void averageTicketsLifespanWithoutTicketsInRange() {
+        assertThat(this.statisticService.averageTicketsLifespan(Duration.ZERO)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void ticketsLifespanPercentileRejectsInvalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () -> this.statisticService.ticketsLifespanPercentile(Duration.ofHours(1), 1.5));
+    }
+
 }
@@ -0,0 +1,154 @@
+package love.broccolai.tickets.core.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketActivity;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.api.model.action.CloseAction;
+import love.broccolai.tickets.api.service.StatisticService;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.utilities.TicketsH2Extension;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DatabaseStatisticServiceTest {
+
+    // half past, so nothing a test creates crosses into another hour
+    private static final Instant NOW = Instant.parse("2026-01-01T12:30:00Z");
+
+    @RegisterExtension
+    private final JdbiExtension h2Extension = TicketsH2Extension.instance();
+
+    private StorageService storageService;
+    private StatisticService statisticService;
+
+    @BeforeEach
+    void setupEach() {
+        TimeUtilities.clock(Clock.fixed(NOW, ZoneOffset.UTC));
+        this.storageService = new DatabaseStorageService(this.h2Extension.getJdbi());
+        this.statisticService = new DatabaseStatisticService(this.h2Extension.getJdbi());
+    }
+
+    @AfterEach
+    void teardownEach() {
+        TimeUtilities.clock(Clock.systemUTC());
+    }
+
+    @Test
+    void averageTicketsLifespan() {
+        Instant fiveMinutes = TimeUtilities.nowTruncated().plus(5, ChronoUnit.MINUTES);
+        Instant sevenMinutes = TimeUtilities.nowTruncated().plus(7, ChronoUnit.MINUTES);
+
+        this.close(this.storageService.createTicket(UUID.randomUUID(), ""), fiveMinutes);
+        this.close(this.storageService.createTicket(UUID.randomUUID(), ""), sevenMinutes);
+        this.storageService.createTicket(UUID.randomUUID(), "");
+
+        Duration duration = this.statisticService.averageTicketsLifespan(Duration.ofHours(1));
+        assertThat(duration).isGreaterThan(Duration.ofMinutes(5));
+        assertThat(duration).isLessThan(Duration.ofMinutes(7));
+    }
+
+    @Test
+    void averageTicketsLifespanWithoutTickets() {
+        assertThat(this.statisticService.averageTicketsLifespan(Duration.ofHours(1))).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void ticketsLifespanPercentile() {
+        for (int i = 1; i <= 10; i++) {
+            Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "");
+            this.close(ticket, ticket.date().plus(i, ChronoUnit.MINUTES));
+        }
+
+        assertThat(this.statisticService.ticketsLifespanPercentile(Duration.ofHours(1), 0.5)).isEqualTo(Duration.ofMinutes(5));
+        assertThat(this.statisticService.ticketsLifespanPercentile(Duration.ofHours(1), 0.9)).isEqualTo(Duration.ofMinutes(9));
+        assertThat(this.statisticService.ticketsLifespanPercentile(Duration.ofHours(1), 1)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    void ticketsLifespanPercentileRejectsInvalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () -> this.statisticService.ticketsLifespanPercentile(Duration.ofHours(1), 0));
+    }
+
+    @Test
+    void averageTimeToFirstAssign() {
+        Ticket first = this.storageService.createTicket(UUID.randomUUID(), "");
+        Ticket second = this.storageService.createTicket(UUID.randomUUID(), "");
+        this.storageService.createTicket(UUID.randomUUID(), "");
+
+        this.assign(first, first.date().plus(2, ChronoUnit.MINUTES));
+        this.assign(first, first.date().plus(10, ChronoUnit.MINUTES));
+        this.assign(second, second.date().plus(4, ChronoUnit.MINUTES));
+
+        assertThat(this.statisticService.averageTimeToFirstAssign(Duration.ofHours(1))).isEqualTo(Duration.ofMinutes(3));
+    }
+
+    @Test
+    void hourlyTicketActivity() {
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "");
+        this.storageService.createTicket(UUID.randomUUID(), "");
+        this.close(ticket, ticket.date());
+
+        List<TicketActivity> activity = this.statisticService.hourlyTicketActivity(Duration.ofHours(3));
+
+        assertThat(activity).hasSize(3);
+        assertThat(activity.get(0).opened()).isEqualTo(0);
+        assertThat(activity.get(2).opened()).isEqualTo(2);
+        assertThat(activity.get(2).closed()).isEqualTo(1);
+    }
+
+    @Test
+    void closedTicketsPerAssignee() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        this.closeAssigned(first);
+        this.closeAssigned(first);
+        this.closeAssigned(second);
+
+        Ticket open = this.storageService.createTicket(UUID.randomUUID(), "");
+        open.assignee(first);
+        this.storageService.saveTicket(open);
+
+        Map<UUID, Long> closed = this.statisticService.closedTicketsPerAssignee(Duration.ofHours(1));
+        assertThat(closed).containsExactly(first, 2L, second, 1L);
+    }
+
+    private void closeAssigned(final UUID assignee) {
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "");
+        ticket.assignee(assignee);
+
+        this.close(ticket, ticket.date());
+    }
+
+    private void assign(final Ticket ticket, final Instant date) {
+        ticket.actions().add(new AssignAction(date, UUID.randomUUID(), UUID.randomUUID()));
+        this.storageService.saveTicket(ticket);
+    }
+
+    private void close(final Ticket ticket, final Instant date) {
+        Action close = new CloseAction(date, UUID.randomUUID(), "");
+
+        ticket.status(TicketStatus.CLOSED);
+        ticket.actions().add(close);
+
+        this.storageService.saveTicket(ticket);
+    }
+
+}
@@ -1,20 +1,50 @@
 package love.broccolai.tickets.core.service;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import love.broccolai.tickets.api.collection.IntObjectMap;
 import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketDraft;
+import love.broccolai.tickets.api.model.TicketPage;
 import love.broccolai.tickets.api.model.TicketStatus;
 import love.broccolai.tickets.api.model.action.Action;
 import love.broccolai.tickets.api.model.action.AssignAction;
 import love.broccolai.tickets.api.service.StorageService;
-import love.broccolai.tickets.core.utilities.TimeUtilities;
+import love.broccolai.tickets.api.service.TicketConflictException;
+import love.broccolai.tickets.core.storage.ActionLoading;
+import love.broccolai.tickets.core.storage.ChunkedFetch;
+import love.broccolai.tickets.core.storage.LazyActions;
 import love.broccolai.tickets.core.utilities.TicketsH2Extension;
+import love.broccolai.tickets.core.utilities.TicketsJdbiPlugin;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.jdbi.v3.core.ConnectionFactory;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
 import org.jdbi.v3.testing.junit5.JdbiExtension;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DatabaseStorageServiceTest {
 
@@ -34,6 +64,28 @@ class DatabaseStorageServiceTest {
         assertThat(ticket.id()).isEqualTo(1);
     }
 
+    @Test
+    void createTickets() {
+        UUID assignee = UUID.randomUUID();
+        TicketDraft open = new TicketDraft(TicketStatus.OPEN, UUID.randomUUID(), TimeUtilities.nowTruncated(), null, "First");
+        TicketDraft closed = new TicketDraft(TicketStatus.CLOSED, UUID.randomUUID(), Instant.EPOCH.plusMillis(1_500), assignee, "Second");
+
+        assertThat(closed.date()).isEqualTo(Instant.EPOCH.plusSeconds(1));
+
+        this.storageService.createTicket(UUID.randomUUID(), "Existing");
+        List<Ticket> tickets = this.storageService.createTickets(List.of(open, closed));
+
+        assertThat(ids(tickets)).containsExactly(2, 3).inOrder();
+
+        Ticket loadedTicket = this.storageService.selectTicket(3);
+
+        assertThat(loadedTicket).isEqualTo(tickets.get(1));
+        assertThat(loadedTicket.status()).isEqualTo(TicketStatus.CLOSED);
+        assertThat(loadedTicket.date()).isEqualTo(closed.date());
+        assertThat(loadedTicket.assignee().orElseThrow()).isEqualTo(assignee);
+        assertThat(this.storageService.createTickets(List.of())).isEmpty();
+    }
+
     @Test
     void saveTicket() {
         Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Hello!");
@@ -58,6 +110,150 @@ class DatabaseStorageServiceTest {
         assertThat(loadedTicket.actions()).containsExactly(action);
     }
 
+    @Test
+    void saveTicketOnlyPersistsPendingActions() {
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Hello!");
+        Action first = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID());
+        Action second = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID());
+
+        ticket.actions().add(first);
+        this.storageService.saveTicket(ticket);
+
+        assertThat(ticket.pendingActions()).isEmpty();
+
+        ticket.actions().add(second);
+        this.storageService.saveTicket(ticket);
+        this.storageService.saveTicket(ticket);
+
+        Ticket loadedTicket = this.storageService.selectTicket(ticket.id());
+
+        assertThat(loadedTicket.actions()).containsExactly(first, second);
+    }
+
+    @Test
+    void saveTicketsKeepsActionsAppendedDuringFlush() {
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Hello!");
+        Action first = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID());
+        Action second = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID());
+        AtomicBoolean appended = new AtomicBoolean();
+
+        this.h2Extension.getJdbi().getConfig(SqlStatements.class).addCustomizer(new StatementCustomizer() {
+            @Override
+            public void beforeExecution(final PreparedStatement statement, final StatementContext context) {
+                if (appended.compareAndSet(false, true)) {
+                    ticket.actions().add(second);
+                }
+            }
+        });
+
+        ticket.actions().add(first);
+        this.storageService.saveTickets(List.of(ticket));
+
+        assertThat(appended.get()).isTrue();
+        assertThat(ticket.pendingActions()).containsExactly(second);
+        assertThat(this.storageService.selectTicket(ticket.id()).actions()).containsExactly(first);
+
+        this.storageService.saveTickets(List.of(ticket));
+
+        assertThat(ticket.pendingActions()).isEmpty();
+        assertThat(this.storageService.selectTicket(ticket.id()).actions()).containsExactly(first, second).inOrder();
+    }
+
+    @Test
+    void saveLoadedTicket() {
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Hello!");
+        Action first = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID());
+
+        ticket.actions().add(first);
+        this.storageService.saveTicket(ticket);
+
+        Ticket loadedTicket = this.storageService.selectTicket(ticket.id());
+        Action second = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID());
+
+        assertThat(loadedTicket.pendingActions()).isEmpty();
+
+        loadedTicket.actions().add(second);
+        this.storageService.saveTicket(loadedTicket);
+
+        assertThat(this.storageService.selectTicket(ticket.id()).actions()).containsExactly(first, second);
+    }
+
+    @Test
+    void saveStaleTicketConflicts() {
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Hello!");
+        Ticket first = this.storageService.selectTicket(ticket.id());
+        Ticket second = this.storageService.selectTicket(ticket.id());
+
+        first.message("First");
+        this.storageService.saveTicket(first);
+
+        second.message("Second");
+        second.actions().add(new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID()));
+
+        TicketConflictException exception = assertThrows(TicketConflictException.class, () -> this.storageService.saveTicket(second));
+        Ticket loadedTicket = this.storageService.selectTicket(ticket.id());
+
+        assertThat(exception.tickets()).containsExactly(ticket.id());
+        assertThat(loadedTicket.message()).isEqualTo("First");
+        assertThat(loadedTicket.actions()).isEmpty();
+        assertThat(loadedTicket.version()).isEqualTo(first.version());
+    }
+
+    @Test
+    void saveTicketsConflictRollsBackBatch() {
+        Ticket stale = this.storageService.createTicket(UUID.randomUUID(), "Stale");
+        Ticket other = this.storageService.createTicket(UUID.randomUUID(), "Other");
+        this.storageService.saveTicket(this.storageService.selectTicket(stale.id()));
+
+        stale.message("Lost");
+        other.message("Changed");
+
+        TicketConflictException exception = assertThrows(
+                TicketConflictException.class,
+                () -> this.storageService.saveTickets(List.of(stale, other))
+        );
+
+        assertThat(exception.tickets()).containsExactly(stale.id());
+        assertThat(this.storageService.selectTicket(other.id()).message()).isEqualTo("Other");
+    }
+
+    @Test
+    void saveTicketsDetectsConflictsWhenBatchCountsAreUnknown() {
+        Handle handle = this.h2Extension.openHandle();
+        Jdbi jdbi = Jdbi.create(new ConnectionFactory() {
+            @Override
+            public Connection openConnection() {
+                return noInfoBatches(handle.getConnection());
+            }
+
+            @Override
+            public void closeConnection(final Connection connection) {
+            }
+        }).installPlugin(new TicketsJdbiPlugin());
+
+        try (handle) {
+            StorageService noInfoService = new DatabaseStorageService(jdbi);
+            Ticket stale = noInfoService.createTicket(UUID.randomUUID(), "Stale");
+            Ticket other = noInfoService.createTicket(UUID.randomUUID(), "Other");
+            noInfoService.saveTicket(noInfoService.selectTicket(stale.id()));
+
+            stale.message("Lost");
+            other.message("Changed");
+
+            TicketConflictException exception = assertThrows(
+                    TicketConflictException.class,
+                    () -> noInfoService.saveTickets(List.of(stale, other))
+            );
+
+            assertThat(exception.tickets()).containsExactly(stale.id());
+            assertThat(noInfoService.selectTicket(stale.id()).message()).isEqualTo("Stale");
+
+            noInfoService.saveTickets(List.of(other));
+
+            assertThat(noInfoService.selectTicket(other.id()).message()).isEqualTo("Changed");
+        }
+    }
+
     @Test
     void selectTickets() {
         Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Test Message");
@@ -66,6 +262,24 @@ class DatabaseStorageServiceTest {
         assertThat(ticket).isEqualTo(loadedTicket);
     }
 
+    @Test
+    void selectTicketsInParallelChunks() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ChunkedFetch chunkedFetch = new ChunkedFetch(3, 3, executor);
+        StorageService storageService = new DatabaseStorageService(this.h2Extension.getJdbi(), ActionLoading.EAGER, chunkedFetch);
+
+        for (int i = 0; i < 10; i++) {
+            storageService.createTicket(UUID.randomUUID(), "Ticket " + i);
+        }
+
+        IntObjectMap<Ticket> tickets = storageService.selectTickets(9, 2, 7, 1, 10, 4, 2, 5, 42);
+        chunkedFetch.close();
+
+        assertThat(tickets.keySet()).containsExactly(1, 2, 4, 5, 7, 9, 10).inOrder();
+        assertThat(tickets.get(7).message()).isEqualTo("Ticket 6");
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
     @Test
     void findTickets() {
         Ticket closedTicket = this.storageService.createTicket(UUID.randomUUID(), "Test Message");
@@ -79,4 +293,159 @@ class DatabaseStorageServiceTest {
         assertThat(foundTickets).hasSize(2);
     }
 
+    @Test
+    void findAndCountTicketsByCreator() {
+        UUID creator = UUID.randomUUID();
+        Ticket open = this.storageService.createTicket(creator, "Open");
+        Ticket closed = this.storageService.createTicket(creator, "Closed");
+        closed.status(TicketStatus.CLOSED);
+        this.storageService.saveTicket(closed);
+        this.storageService.createTicket(UUID.randomUUID(), "Other");
+
+        assertThat(this.storageService.findTicketsByCreator(creator, TicketStatus.OPEN)).containsExactly(open);
+        assertThat(this.storageService.countTicketsByCreator(TicketStatus.OPEN)).containsEntry(creator, 1);
+        assertThat(this.storageService.countTicketsByCreator(TicketStatus.OPEN)).hasSize(2);
+    }
+
+    @Test
+    void findTicketsByAssigneeAndSince() {
+        UUID assignee = UUID.randomUUID();
+        Ticket assigned = this.storageService.createTicket(UUID.randomUUID(), "Assigned");
+        assigned.assignee(assignee);
+        this.storageService.saveTicket(assigned);
+
+        this.storageService.createTicket(UUID.randomUUID(), "TEST");
+
+        Instant past = TimeUtilities.nowTruncated().minus(Duration.ofHours(1));
+        Instant future = TimeUtilities.nowTruncated().plus(Duration.ofHours(1));
+
+        assertThat(this.storageService.findTickets(TicketStatus.OPEN, assignee, null)).containsExactly(assigned);
+        assertThat(this.storageService.findTickets(TicketStatus.OPEN, null, past)).hasSize(2);
+        assertThat(this.storageService.findTickets(TicketStatus.OPEN, assignee, past)).containsExactly(assigned);
+        assertThat(this.storageService.findTickets(TicketStatus.OPEN, assignee, future)).isEmpty();
+    }
+
+    @Test
+    void findTicketsPage() {
+        for (int i = 0; i < 5; i++) {
+            this.storageService.createTicket(UUID.randomUUID(), "TEST");
+        }
+
+        TicketPage first = this.storageService.findTickets(TicketStatus.OPEN, null, null, 0, 2);
+        TicketPage second = this.storageService.findTickets(TicketStatus.OPEN, null, null, first.cursor(), 2);
+        TicketPage third = this.storageService.findTickets(TicketStatus.OPEN, null, null, second.cursor(), 2);
+
+        assertThat(ids(first.tickets())).containsExactly(1, 2).inOrder();
+        assertThat(first.hasNext()).isTrue();
+        assertThat(ids(second.tickets())).containsExactly(3, 4).inOrder();
+        assertThat(ids(third.tickets())).containsExactly(5);
+        assertThat(third.hasNext()).isFalse();
+    }
+
+    @Test
+    void streamTickets() {
+        Ticket first = this.storageService.createTicket(UUID.randomUUID(), "First");
+        Ticket second = this.storageService.createTicket(UUID.randomUUID(), "Second");
+        Action firstAction = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID());
+        Action secondAction = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID());
+
+        first.actions().add(firstAction);
+        first.actions().add(secondAction);
+        this.storageService.saveTicket(first);
+        this.storageService.createTicket(UUID.randomUUID(), "Third");
+
+        try (Stream<Ticket> stream = this.storageService.streamTickets(TicketStatus.OPEN, null, null)) {
+            List<Ticket> tickets = stream.toList();
+
+            assertThat(ids(tickets)).containsExactly(first.id(), second.id(), 3).inOrder();
+            assertThat(tickets.get(0).actions()).containsExactly(firstAction, secondAction).inOrder();
+            assertThat(tickets.get(1).actions()).isEmpty();
+        }
+    }
+
+    @Test
+    void lazyActionsAreLoadedOnAccess() {
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Hello!");
+        Action first = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID());
+        Action second = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID());
+
+        ticket.actions().add(first);
+        ticket.actions().add(second);
+        this.storageService.saveTicket(ticket);
+        this.storageService.createTicket(UUID.randomUUID(), "Empty");
+
+        StorageService lazyService = new DatabaseStorageService(this.h2Extension.getJdbi(), ActionLoading.LAZY);
+        Collection<Ticket> tickets = lazyService.findTickets(TicketStatus.OPEN, null, null);
+        Ticket loadedTicket = tickets.iterator().next();
+
+        assertThat(loadedTicket.actions()).isInstanceOf(LazyActions.class);
+        assertThat(loadedTicket.actions()).hasSize(2);
+        assertThat(((LazyActions) loadedTicket.actions()).loaded()).isFalse();
+
+        assertThat(loadedTicket.actions()).containsExactly(first, second).inOrder();
+        assertThat(ids(tickets)).containsExactly(ticket.id(), 2).inOrder();
+        assertThat(lazyService.findTickets(TicketStatus.OPEN, null, null, 0, 1).tickets()).containsExactly(ticket);
+    }
+
+    @Test
+    void saveLazyTicketOnlyPersistsPendingActions() {
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Hello!");
+        Action first = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID());
+        Action second = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID());
+
+        ticket.actions().add(first);
+        this.storageService.saveTicket(ticket);
+
+        StorageService lazyService = new DatabaseStorageService(this.h2Extension.getJdbi(), ActionLoading.LAZY);
+        Ticket loadedTicket = lazyService.selectTicket(ticket.id());
+
+        loadedTicket.actions().add(second);
+        assertThat(loadedTicket.pendingActions()).containsExactly(second);
+
+        lazyService.saveTicket(loadedTicket);
+
+        assertThat(((LazyActions) loadedTicket.actions()).loaded()).isFalse();
+        assertThat(lazyService.selectTicket(ticket.id()).actions()).containsExactly(first, second).inOrder();
+    }
+
+    private static Connection noInfoBatches(final Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            if (method.getName().equals("prepareStatement") && args[0].toString().startsWith("UPDATE")) {
+                PreparedStatement statement = (PreparedStatement) method.invoke(connection, args);
+
+                return proxy(PreparedStatement.class, statement, (statementMethod, statementArgs) -> {
+                    if (!statementMethod.getName().equals("executeBatch")) {
+                        return statementMethod.invoke(statement, statementArgs);
+                    }
+
+                    int[] counts = statement.executeBatch();
+                    Arrays.fill(counts, Statement.SUCCESS_NO_INFO);
+                    return counts;
+                });
+            }
+
+            return method.invoke(connection, args);
+        });
+    }
+
+    private static <T> T proxy(final Class<T> type, final T target, final Invocation invocation) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            try {
+                return invocation.invoke(method, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }));
+    }
+
+    private interface Invocation {
+
+        Object invoke(Method method, Object[] args) throws Throwable;
+
+    }
+
+    private static List<Integer> ids(final Collection<Ticket> tickets) {
+        return tickets.stream().map(Ticket::id).toList();
+    }
+
 }
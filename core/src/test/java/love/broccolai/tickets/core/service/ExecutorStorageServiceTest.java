@@ -0,0 +1,91 @@
+package love.broccolai.tickets.core.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.service.AsyncStorageService;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.utilities.DatabaseExecutor;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExecutorStorageServiceTest {
+
+    private final StorageService storageService = mock(StorageService.class);
+    private final DatabaseExecutor executor = new DatabaseExecutor(1, 1, Duration.ofMillis(250));
+    private final AsyncStorageService asyncStorageService = new ExecutorStorageService(this.storageService, this.executor);
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    @AfterEach
+    void teardownEach() {
+        this.latch.countDown();
+        this.executor.close();
+    }
+
+    @Test
+    void selectTicket() throws Exception {
+        Ticket ticket = new Ticket(
+                1,
+                TicketStatus.OPEN,
+                UUID.randomUUID(),
+                TimeUtilities.nowTruncated(),
+                null,
+                "Test Message",
+                new ArrayList<>()
+        );
+        when(this.storageService.selectTicket(1)).thenReturn(ticket);
+
+        assertThat(this.asyncStorageService.selectTicket(1).get()).isSameInstanceAs(ticket);
+    }
+
+    @Test
+    void rejectsWhenSaturated() {
+        CompletableFuture<Void> blocked = this.executor.run(this::await);
+        CompletableFuture<Ticket> rejected = this.asyncStorageService.selectTicket(1);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+        assertThat(exception).hasCauseThat().isInstanceOf(RejectedExecutionException.class);
+        assertThat(blocked.isDone()).isFalse();
+    }
+
+    @Test
+    void timesOut() {
+        CompletableFuture<Void> blocked = this.executor.run(this::await);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, blocked::get);
+        assertThat(exception).hasCauseThat().isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void closeKeepsInterruptFlag() {
+        this.executor.run(this::await);
+
+        Thread.currentThread().interrupt();
+        this.executor.close();
+
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    private void await() {
+        try {
+            this.latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
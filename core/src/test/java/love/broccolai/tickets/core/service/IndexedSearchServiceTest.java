@@ -0,0 +1,92 @@
+package love.broccolai.tickets.core.service;
+
+import java.util.List;
+import java.util.UUID;
+import love.broccolai.tickets.api.model.SearchFilter;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.service.ModificationService;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.utilities.TicketsH2Extension;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class IndexedSearchServiceTest {
+
+    @RegisterExtension
+    private final JdbiExtension h2Extension = TicketsH2Extension.instance();
+
+    private StorageService storageService;
+    private ModificationService modificationService;
+    private IndexedSearchService searchService;
+
+    @BeforeEach
+    void setupEach() {
+        StorageService database = new DatabaseStorageService(this.h2Extension.getJdbi());
+
+        this.searchService = new IndexedSearchService(database);
+        this.storageService = new ListeningStorageService(database, List.of(this.searchService));
+        this.modificationService = new ListeningModificationService(
+                new SimpleModificationService(this.storageService),
+                List.of(this.searchService)
+        );
+    }
+
+    @Test
+    void ranksRarerAndRepeatedTermsHigher() {
+        Ticket lava = this.storageService.createTicket(UUID.randomUUID(), "Fell into lava, lost my lava bucket");
+        Ticket bucket = this.storageService.createTicket(UUID.randomUUID(), "Lost my bucket");
+        this.storageService.createTicket(UUID.randomUUID(), "Lost my house");
+
+        assertThat(ids(this.searchService.searchTickets("LAVA bucket", SearchFilter.any(), 10)))
+                .containsExactly(lava.id(), bucket.id())
+                .inOrder();
+        assertThat(this.searchService.searchTickets("lost", SearchFilter.any(), 2)).hasSize(2);
+        assertThat(this.searchService.searchTickets("griefing", SearchFilter.any(), 10)).isEmpty();
+    }
+
+    @Test
+    void indexesActionsAndFilters() {
+        UUID assignee = UUID.randomUUID();
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Someone broke my chest");
+        this.storageService.createTicket(UUID.randomUUID(), "Chest missing");
+
+        this.modificationService.assign(ticket, UUID.randomUUID(), assignee);
+        this.modificationService.close(ticket, UUID.randomUUID(), "Rolled back the griefing");
+
+        SearchFilter closed = new SearchFilter(TicketStatus.CLOSED, assignee, null);
+
+        assertThat(ids(this.searchService.searchTickets("griefing", SearchFilter.any(), 10))).containsExactly(ticket.id());
+        assertThat(ids(this.searchService.searchTickets("chest", closed, 10))).containsExactly(ticket.id());
+        assertThat(this.searchService.searchTickets("chest", new SearchFilter(TicketStatus.OPEN, assignee, null), 10)).isEmpty();
+    }
+
+    @Test
+    void editReplacesDocument() {
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Typo in tittle");
+        this.modificationService.edit(ticket, ticket.creator(), "Typo in title");
+
+        assertThat(ids(this.searchService.searchTickets("title", SearchFilter.any(), 10))).containsExactly(ticket.id());
+        assertThat(ids(this.searchService.searchTickets("tittle", SearchFilter.any(), 10))).isEmpty();
+    }
+
+    @Test
+    void rebuildIndexesStoredTickets() {
+        StorageService database = new DatabaseStorageService(this.h2Extension.getJdbi());
+        Ticket ticket = database.createTicket(UUID.randomUUID(), "Created before startup");
+
+        this.searchService.rebuild();
+
+        assertThat(this.searchService.indexedTickets()).isEqualTo(1);
+        assertThat(ids(this.searchService.searchTickets("startup", SearchFilter.any(), 10))).containsExactly(ticket.id());
+    }
+
+    private static List<Integer> ids(final List<Ticket> tickets) {
+        return tickets.stream().map(Ticket::id).toList();
+    }
+
+}
@@ -0,0 +1,115 @@
+package love.broccolai.tickets.core.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.CloseAction;
+import love.broccolai.tickets.api.service.ModificationService;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.utilities.TicketsH2Extension;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class OpenTicketCounterTest {
+
+    @RegisterExtension
+    private final JdbiExtension h2Extension = TicketsH2Extension.instance();
+
+    private StorageService database;
+    private StorageService storageService;
+    private ModificationService modificationService;
+    private OpenTicketCounter counter;
+
+    @BeforeEach
+    void setupEach() {
+        this.database = spy(new DatabaseStorageService(this.h2Extension.getJdbi()));
+        this.counter = new OpenTicketCounter(this.database);
+        this.storageService = new ListeningStorageService(this.database, List.of(this.counter));
+        this.modificationService = new ListeningModificationService(
+                new SimpleModificationService(this.storageService),
+                List.of(this.counter)
+        );
+    }
+
+    @Test
+    void followsCreationAndClosing() {
+        UUID creator = UUID.randomUUID();
+        Ticket first = this.storageService.createTicket(creator, "First");
+        this.storageService.createTicket(creator, "Second");
+
+        assertThat(this.counter.openTickets(creator)).isEqualTo(2);
+
+        this.modificationService.close(first, UUID.randomUUID(), null);
+        this.modificationService.close(first, UUID.randomUUID(), "Again");
+
+        assertThat(this.counter.openTickets(creator)).isEqualTo(1);
+        assertThat(this.counter.hasOpenTickets(UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    void closeFollowsTheStatusTransitionWithoutReadingHistory() {
+        UUID creator = UUID.randomUUID();
+        Ticket ticket = new Ticket(1, TicketStatus.OPEN, creator, TimeUtilities.nowTruncated(), null, "", List.of());
+        CloseAction close = new CloseAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), null);
+
+        this.counter.ticketCreated(ticket);
+        this.counter.actionApplied(ticket, close, TicketStatus.CLOSED);
+        assertThat(this.counter.openTickets(creator)).isEqualTo(1);
+
+        this.counter.actionApplied(ticket, close, TicketStatus.OPEN);
+        assertThat(this.counter.openTickets(creator)).isEqualTo(0);
+    }
+
+    @Test
+    void bootstrapCountsWithOneQuery() {
+        UUID creator = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        Ticket closed = this.database.createTicket(creator, "Closed");
+        this.database.createTicket(creator, "Open");
+        this.database.createTicket(creator, "Open");
+        this.database.createTicket(other, "Open");
+        new SimpleModificationService(this.database).close(closed, UUID.randomUUID(), null);
+
+        this.counter.bootstrap();
+
+        assertThat(this.counter.openTickets(creator)).isEqualTo(2);
+        assertThat(this.counter.openTickets(other)).isEqualTo(1);
+        verify(this.database, times(1)).countTicketsByCreator(any());
+    }
+
+    @Test
+    void bootstrapKeepsChangesArrivingWhileCounting() {
+        UUID creator = UUID.randomUUID();
+        Ticket closed = this.storageService.createTicket(creator, "Closed while counting");
+        this.storageService.createTicket(creator, "Open");
+        List<Integer> countsWhileLoading = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            Object counts = invocation.callRealMethod();
+
+            countsWhileLoading.add(this.counter.openTickets(creator));
+            this.modificationService.close(closed, UUID.randomUUID(), null);
+            this.storageService.createTicket(creator, "Created while counting");
+
+            return counts;
+        }).when(this.database).countTicketsByCreator(TicketStatus.OPEN);
+
+        this.counter.bootstrap();
+
+        assertThat(countsWhileLoading).containsExactly(2);
+        assertThat(this.counter.openTickets(creator)).isEqualTo(2);
+    }
+
+}
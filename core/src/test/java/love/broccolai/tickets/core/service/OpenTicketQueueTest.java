@@ -0,0 +1,109 @@
+package love.broccolai.tickets.core.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.service.ModificationService;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.utilities.TicketsH2Extension;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+class OpenTicketQueueTest {
+
+    @RegisterExtension
+    private final JdbiExtension h2Extension = TicketsH2Extension.instance();
+
+    private StorageService database;
+    private StorageService storageService;
+    private ModificationService modificationService;
+    private OpenTicketQueue queue;
+
+    @BeforeEach
+    void setupEach() {
+        this.database = new DatabaseStorageService(this.h2Extension.getJdbi());
+        this.queue = new OpenTicketQueue(this.database);
+        this.storageService = new ListeningStorageService(this.database, List.of(this.queue));
+        this.modificationService = new ListeningModificationService(
+                new SimpleModificationService(this.storageService),
+                List.of(this.queue)
+        );
+    }
+
+    @Test
+    void tracksAssignmentAndClosing() {
+        UUID creator = UUID.randomUUID();
+        UUID assignee = UUID.randomUUID();
+        Ticket first = this.storageService.createTicket(creator, "First");
+        Ticket second = this.storageService.createTicket(creator, "Second");
+        Ticket other = this.storageService.createTicket(UUID.randomUUID(), "Other");
+
+        List<Ticket> beforeAssign = this.queue.openTickets();
+        this.modificationService.assign(second, UUID.randomUUID(), assignee);
+        this.modificationService.assign(other, UUID.randomUUID(), assignee);
+
+        assertThat(beforeAssign).containsExactly(first, second, other).inOrder();
+        assertThat(this.queue.assignedTo(assignee)).containsExactly(second, other).inOrder();
+        assertThat(this.queue.createdBy(creator)).containsExactly(first, second).inOrder();
+
+        this.modificationService.assign(second, UUID.randomUUID(), UUID.randomUUID());
+        this.modificationService.close(first, UUID.randomUUID(), null);
+
+        assertThat(this.queue.openTickets()).containsExactly(second, other).inOrder();
+        assertThat(this.queue.assignedTo(assignee)).containsExactly(other);
+        assertThat(this.queue.createdBy(creator)).containsExactly(second);
+        assertThat(beforeAssign).hasSize(3);
+    }
+
+    @Test
+    void bootstrapLoadsOpenTickets() {
+        UUID assignee = UUID.randomUUID();
+        Ticket open = this.database.createTicket(UUID.randomUUID(), "Open");
+        Ticket closed = this.database.createTicket(UUID.randomUUID(), "Closed");
+        new SimpleModificationService(this.database).assign(open, UUID.randomUUID(), assignee);
+        new SimpleModificationService(this.database).close(closed, UUID.randomUUID(), null);
+
+        this.queue.bootstrap();
+
+        assertThat(this.queue.size()).isEqualTo(1);
+        assertThat(this.queue.assignedTo(assignee).get(0).id()).isEqualTo(open.id());
+        assertThat(this.queue.assignedTo(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void bootstrapKeepsChangesArrivingWhileLoading() {
+        StorageService database = spy(this.database);
+        OpenTicketQueue queue = new OpenTicketQueue(database);
+        StorageService storageService = new ListeningStorageService(this.database, List.of(queue));
+        ModificationService modificationService = new ListeningModificationService(
+                new SimpleModificationService(storageService),
+                List.of(queue)
+        );
+
+        Ticket closed = this.database.createTicket(UUID.randomUUID(), "Closed while loading");
+        Ticket kept = this.database.createTicket(UUID.randomUUID(), "Kept");
+        List<Ticket> created = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            Object tickets = invocation.callRealMethod();
+
+            modificationService.close(closed, UUID.randomUUID(), null);
+            created.add(storageService.createTicket(UUID.randomUUID(), "Created while loading"));
+
+            return tickets;
+        }).when(database).findTickets(TicketStatus.OPEN, null, null);
+
+        queue.bootstrap();
+
+        assertThat(queue.openTickets()).containsExactly(kept, created.get(0)).inOrder();
+    }
+
+}
@@ -1,19 +1,29 @@
 package love.broccolai.tickets.core.service;
 
 import java.util.ArrayList;
+import java.util.Set;
 import java.util.UUID;
 import love.broccolai.tickets.api.model.Ticket;
 import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.api.model.action.CloseAction;
 import love.broccolai.tickets.api.model.action.EditAction;
 import love.broccolai.tickets.api.service.ModificationService;
 import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.api.service.TicketConflictException;
 import love.broccolai.tickets.core.utilities.TimeUtilities;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.Truth8.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class SimpleModificationServiceTest {
 
@@ -37,8 +47,11 @@ class SimpleModificationServiceTest {
 
     @Test
     void close() {
-        this.modificationService.close(this.ticket, UUID.randomUUID(), null);
-        assertThat(this.ticket.actions().size()).isEqualTo(1);
+        CloseAction action = this.modificationService.close(this.ticket, UUID.randomUUID(), "Done");
+
+        assertThat(this.ticket.actions()).containsExactly(action);
+        assertThat(this.ticket.status()).isEqualTo(TicketStatus.CLOSED);
+        assertThat(action.message()).isEqualTo("Done");
     }
 
     @Test
@@ -59,4 +72,49 @@ class SimpleModificationServiceTest {
         assertThat(this.ticket.assignee()).hasValue(assignee);
     }
 
+    @Test
+    void retriesOnConflict() {
+        Ticket fresh = new Ticket(1, TicketStatus.OPEN, this.ticket.creator(), this.ticket.date(), null, "Edited", new ArrayList<>(), 1);
+        UUID assignee = UUID.randomUUID();
+
+        doThrow(new TicketConflictException(Set.of(1))).doNothing().when(this.storageService).saveTicket(this.ticket);
+        when(this.storageService.selectTicket(1)).thenReturn(fresh);
+
+        AssignAction action = this.modificationService.assign(this.ticket, UUID.randomUUID(), assignee);
+
+        verify(this.storageService, times(2)).saveTicket(this.ticket);
+        assertThat(this.ticket.assignee()).hasValue(assignee);
+        assertThat(this.ticket.message()).isEqualTo("Edited");
+        assertThat(this.ticket.version()).isEqualTo(1);
+        assertThat(this.ticket.actions()).containsExactly(action);
+        assertThat(this.ticket.pendingActions()).containsExactly(action);
+    }
+
+    @Test
+    void retriedCloseKeepsConcurrentAssignment() {
+        UUID assignee = UUID.randomUUID();
+        Ticket fresh = new Ticket(
+                1, TicketStatus.OPEN, this.ticket.creator(), this.ticket.date(), assignee, "Test Message", new ArrayList<>(), 1
+        );
+
+        doThrow(new TicketConflictException(Set.of(1))).doNothing().when(this.storageService).saveTicket(this.ticket);
+        when(this.storageService.selectTicket(1)).thenReturn(fresh);
+
+        this.modificationService.close(this.ticket, UUID.randomUUID(), "Done");
+
+        assertThat(this.ticket.status()).isEqualTo(TicketStatus.CLOSED);
+        assertThat(this.ticket.assignee()).hasValue(assignee);
+    }
+
+    @Test
+    void givesUpAfterMaximumAttempts() {
+        doThrow(new TicketConflictException(Set.of(1))).when(this.storageService).saveTicket(any());
+        when(this.storageService.selectTicket(1)).thenAnswer(invocation -> new Ticket(
+                1, TicketStatus.OPEN, this.ticket.creator(), this.ticket.date(), null, "Test Message", new ArrayList<>(), 1
+        ));
+
+        assertThrows(TicketConflictException.class, () -> this.modificationService.edit(this.ticket, UUID.randomUUID(), "Edit"));
+        verify(this.storageService, times(3)).saveTicket(any());
+    }
+
 }
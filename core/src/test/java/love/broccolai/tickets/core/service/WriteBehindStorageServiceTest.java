@@ -0,0 +1,147 @@
+package love.broccolai.tickets.core.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.UUID;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.api.model.action.EditAction;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.utilities.TicketsH2Extension;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class WriteBehindStorageServiceTest {
+
+    @RegisterExtension
+    private final JdbiExtension h2Extension = TicketsH2Extension.instance();
+
+    private StorageService delegate;
+    private WriteBehindStorageService storageService;
+
+    @BeforeEach
+    void setupEach() {
+        this.delegate = spy(new DatabaseStorageService(this.h2Extension.getJdbi()));
+        this.storageService = new WriteBehindStorageService(this.delegate, Duration.ofHours(1), 2);
+    }
+
+    @AfterEach
+    void teardownEach() {
+        this.storageService.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void coalescesSavesOfTheSameTicket() {
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Hello!");
+
+        for (int i = 0; i < 3; i++) {
+            EditAction action = new EditAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), "Edit " + i);
+            ticket.message(action.message());
+            ticket.actions().add(action);
+            this.storageService.saveTicket(ticket);
+        }
+
+        verify(this.delegate, never()).saveTickets(any());
+
+        Ticket loadedTicket = this.storageService.selectTicket(ticket.id());
+
+        ArgumentCaptor<Collection<Ticket>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(this.delegate).saveTickets(captor.capture());
+
+        assertThat(captor.getValue()).containsExactly(ticket);
+        assertThat(loadedTicket.message()).isEqualTo("Edit 2");
+        assertThat(loadedTicket.actions()).hasSize(3);
+    }
+
+    @Test
+    void flushesWhenBatchIsFull() {
+        this.storageService.saveTicket(this.storageService.createTicket(UUID.randomUUID(), "First"));
+        this.storageService.saveTicket(this.storageService.createTicket(UUID.randomUUID(), "Second"));
+
+        verify(this.delegate, timeout(5000)).saveTickets(any());
+    }
+
+    @Test
+    void closeFlushesPendingTickets() {
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Hello!");
+        ticket.status(TicketStatus.CLOSED);
+
+        this.storageService.saveTicket(ticket);
+        this.storageService.close();
+
+        assertThat(this.storageService.pendingTickets()).isEqualTo(0);
+        assertThat(this.delegate.selectTicket(ticket.id()).status()).isEqualTo(TicketStatus.CLOSED);
+    }
+
+    @Test
+    void rebasesConflictingTicketsAndWritesThem() {
+        Ticket stale = this.storageService.createTicket(UUID.randomUUID(), "Stale");
+        Ticket other = this.storageService.createTicket(UUID.randomUUID(), "Other");
+        Ticket concurrent = this.delegate.selectTicket(stale.id());
+        AssignAction assign = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), UUID.randomUUID());
+        EditAction edit = new EditAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), "Edited");
+
+        concurrent.apply(assign);
+        this.delegate.saveTicket(concurrent);
+
+        stale.apply(edit);
+        other.message("Changed");
+        this.storageService.saveTicket(stale);
+        this.storageService.saveTicket(other);
+        this.storageService.flush();
+
+        Ticket loadedTicket = this.delegate.selectTicket(stale.id());
+
+        assertThat(this.storageService.pendingTickets()).isEqualTo(0);
+        assertThat(loadedTicket.message()).isEqualTo("Edited");
+        assertThat(loadedTicket.assignee().orElseThrow()).isEqualTo(assign.assignee());
+        assertThat(loadedTicket.actions()).containsExactly(assign, edit).inOrder();
+        assertThat(this.delegate.selectTicket(other.id()).message()).isEqualTo("Changed");
+
+        stale.message("Saved again");
+        this.storageService.saveTicket(stale);
+        this.storageService.flush();
+
+        assertThat(this.delegate.selectTicket(stale.id()).message()).isEqualTo("Saved again");
+    }
+
+    @Test
+    void keepsTicketsQueuedWhenFlushFails() {
+        StorageService failing = mock(StorageService.class);
+        doThrow(new IllegalStateException()).when(failing).saveTickets(any());
+
+        WriteBehindStorageService storageService = new WriteBehindStorageService(failing, Duration.ofHours(1), 10);
+        storageService.saveTicket(new Ticket(
+                1,
+                TicketStatus.OPEN,
+                UUID.randomUUID(),
+                TimeUtilities.nowTruncated(),
+                null,
+                "Test Message",
+                new ArrayList<>()
+        ));
+
+        assertThrows(IllegalStateException.class, storageService::flush);
+
+        assertThat(storageService.pendingTickets()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,63 @@
+package love.broccolai.tickets.core.storage;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import love.broccolai.tickets.api.collection.IntObjectMap;
+import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.api.model.action.EditAction;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class ActionLoaderTest {
+
+    private final List<int[]> queries = new ArrayList<>();
+    private final ActionLoader loader = new ActionLoader(this::query, 2);
+
+    @Test
+    void loadsOnlyTheWindowOfTheReadTicket() {
+        List<LazyActions> actions = new ArrayList<>();
+
+        for (int ticket = 1; ticket <= 5; ticket++) {
+            actions.add(this.loader.actions(ticket, 1));
+        }
+
+        assertThat(actions.get(2).get(0)).isEqualTo(action(3));
+        assertThat(actions.get(3).get(0)).isEqualTo(action(4));
+        assertThat(this.queries).hasSize(1);
+        assertThat(this.queries.get(0)).asList().containsExactly(3, 4).inOrder();
+
+        assertThat(actions.get(4).get(0)).isEqualTo(action(5));
+        assertThat(this.queries).hasSize(2);
+        assertThat(actions.get(0).loaded()).isFalse();
+    }
+
+    @Test
+    void ticketsWithoutActionsSkipWindows() {
+        LazyActions empty = this.loader.actions(1, 0);
+        LazyActions first = this.loader.actions(2, 1);
+        this.loader.actions(3, 1);
+
+        assertThat(empty).isEmpty();
+        assertThat(first.get(0)).isEqualTo(action(2));
+        assertThat(this.queries.get(0)).asList().containsExactly(2, 3).inOrder();
+    }
+
+    private IntObjectMap<List<Action>> query(final int[] tickets) {
+        this.queries.add(tickets);
+        IntObjectMap<List<Action>> actions = new IntObjectMap<>(tickets.length);
+
+        for (final int ticket : tickets) {
+            actions.put(ticket, List.of(action(ticket)));
+        }
+
+        return actions;
+    }
+
+    private static Action action(final int ticket) {
+        return new EditAction(Instant.EPOCH.plusSeconds(ticket), new UUID(0, ticket), "Edit " + ticket);
+    }
+
+}
@@ -0,0 +1,85 @@
+package love.broccolai.tickets.core.storage;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.UUID;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.action.Action;
+import love.broccolai.tickets.api.model.action.EditAction;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.service.DatabaseStorageService;
+import love.broccolai.tickets.core.utilities.TicketsH2Extension;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jdbi.v3.core.statement.SqlStatement;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ActionTypeRegistryTest {
+
+    @RegisterExtension
+    private final JdbiExtension h2Extension = TicketsH2Extension.instance();
+
+    @Test
+    void registersDefaultTypes() {
+        ActionTypeRegistry registry = this.h2Extension.getJdbi().getConfig(ActionTypeRegistry.class);
+        Action action = new EditAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), "Edit");
+
+        assertThat(registry.size()).isEqualTo(3);
+        assertThat(registry.type(action).identifier()).isEqualTo("EDIT");
+        assertThat(registry.type("EDIT").type()).isEqualTo(EditAction.class);
+    }
+
+    @Test
+    void rejectsDuplicateIdentifiers() {
+        ActionTypeRegistry registry = this.h2Extension.getJdbi().getConfig(ActionTypeRegistry.class);
+
+        assertThrows(IllegalArgumentException.class, () -> registry.register("EDIT", NoteAction.class, new NoteActionMapper()));
+    }
+
+    @Test
+    void mapsRegisteredType() {
+        this.h2Extension.getJdbi().getConfig(ActionTypeRegistry.class).register("NOTE", NoteAction.class, new NoteActionMapper());
+
+        StorageService storageService = new DatabaseStorageService(this.h2Extension.getJdbi());
+        Ticket ticket = storageService.createTicket(UUID.randomUUID(), "Hello!");
+        Action note = new NoteAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), "Note");
+        Action edit = new EditAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), "Edit");
+
+        ticket.actions().add(note);
+        ticket.actions().add(edit);
+        storageService.saveTicket(ticket);
+
+        assertThat(storageService.selectTicket(ticket.id()).actions()).containsExactly(note, edit).inOrder();
+    }
+
+    private record NoteAction(@NonNull Instant date, @NonNull UUID creator, @NonNull String note) implements Action {
+    }
+
+    private static final class NoteActionMapper implements ActionMapper<NoteAction> {
+
+        @Override
+        public NoteAction map(
+                final ActionColumns columns,
+                final ResultSet rs,
+                final StatementContext ctx
+        ) throws SQLException {
+            return new NoteAction(columns.date(rs), columns.creator(rs, ctx), columns.message(rs));
+        }
+
+        @Override
+        public <S extends SqlStatement<S>> S bind(final S statement, final NoteAction action) {
+            return statement.bind(Entries.CREATOR.column(), action.creator())
+                    .bindByType(Entries.ASSIGNEE.column(), null, UUID.class)
+                    .bind(Entries.MESSAGE.column(), action.note());
+        }
+
+    }
+
+}
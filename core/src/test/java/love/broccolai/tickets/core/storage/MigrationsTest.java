@@ -0,0 +1,142 @@
+package love.broccolai.tickets.core.storage;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.api.model.action.EditAction;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.service.DatabaseStorageService;
+import love.broccolai.tickets.core.storage.migration.BinaryUuidMigration;
+import love.broccolai.tickets.core.utilities.TicketsJdbiPlugin;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.h2.jdbcx.JdbcDataSource;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class MigrationsTest {
+
+    private JdbcDataSource dataSource;
+    private Jdbi jdbi;
+
+    @BeforeEach
+    void setupEach() {
+        this.dataSource = new JdbcDataSource();
+        this.dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        this.dataSource.setUser("user");
+
+        this.jdbi = Jdbi.create(this.dataSource);
+    }
+
+    @Test
+    void indexMigrationKeepsExistingActions() {
+        this.migrate("1");
+
+        this.jdbi.useHandle(handle -> {
+            handle.execute("INSERT INTO tickets_ticket(status, creator, date, message) VALUES ('OPEN', ?, ?, 'Hello')",
+                    UUID.randomUUID().toString(), Instant.now());
+
+            for (int i = 0; i < 3; i++) {
+                handle.execute("INSERT INTO tickets_action(type, ticket, creator, date) VALUES ('CLOSE', 1, ?, ?)",
+                        UUID.randomUUID().toString(), Instant.now());
+            }
+        });
+
+        this.migrate("2");
+
+        List<Integer> ids = this.jdbi.withHandle(handle -> handle.createQuery("SELECT id FROM tickets_action WHERE ticket = 1")
+                .mapTo(Integer.class)
+                .list());
+
+        assertThat(ids).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void binaryUuidMigrationKeepsTickets() {
+        this.migrate("latest");
+
+        StorageService textStorage = new DatabaseStorageService(this.jdbi.installPlugin(new TicketsJdbiPlugin()));
+        UUID assignee = UUID.randomUUID();
+        Ticket ticket = textStorage.createTicket(UUID.randomUUID(), "Hello!");
+
+        ticket.assignee(assignee);
+        ticket.actions().add(new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), assignee));
+        ticket.actions().add(new EditAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), "Edited"));
+        textStorage.saveTicket(ticket);
+        textStorage.createTicket(UUID.randomUUID(), "Unassigned");
+
+        this.migrate(UuidStorage.BINARY.configure(Flyway.configure()).target("latest"));
+
+        Jdbi binaryJdbi = Jdbi.create(this.dataSource).installPlugin(new TicketsJdbiPlugin(UuidStorage.BINARY));
+        StorageService binaryStorage = new DatabaseStorageService(binaryJdbi);
+
+        List<String> types = binaryJdbi.withHandle(handle -> handle.createQuery(
+                        "SELECT DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS WHERE COLUMN_NAME IN ('creator', 'assignee')")
+                .mapTo(String.class)
+                .list());
+
+        List<String> creatorIndex = binaryJdbi.withHandle(handle -> handle.createQuery(
+                        "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS WHERE INDEX_NAME = 'tickets_ticket_status_creator'")
+                .mapTo(String.class)
+                .list());
+
+        assertThat(types).hasSize(4);
+        assertThat(creatorIndex).containsExactly("status", "creator").inOrder();
+        assertThat(types).containsExactly("binary", "binary", "binary", "binary");
+        assertThat(binaryStorage.selectTicket(ticket.id())).isEqualTo(ticket);
+        assertThat(binaryStorage.selectTicket(ticket.id()).actions()).isEqualTo(ticket.actions());
+        assertThat(binaryStorage.findTickets(TicketStatus.OPEN, assignee, null)).containsExactly(ticket);
+        assertThat(binaryStorage.findTicketsByCreator(ticket.creator(), TicketStatus.OPEN)).containsExactly(ticket);
+
+        Ticket created = binaryStorage.createTicket(UUID.randomUUID(), "Binary");
+        assertThat(binaryStorage.selectTicket(created.id())).isEqualTo(created);
+    }
+
+    @Test
+    void binaryUuidMigrationResumesAfterFailure() {
+        this.migrate("latest");
+
+        StorageService textStorage = new DatabaseStorageService(this.jdbi.installPlugin(new TicketsJdbiPlugin()));
+        Ticket ticket = textStorage.createTicket(UUID.randomUUID(), "Hello!");
+
+        // what a run that failed while copying the first column leaves behind
+        this.jdbi.useHandle(handle -> {
+            handle.execute("DROP INDEX tickets_ticket_status_assignee ON tickets_ticket");
+            handle.execute("DROP INDEX tickets_ticket_status_creator ON tickets_ticket");
+            handle.execute("ALTER TABLE tickets_ticket ADD COLUMN `creator_binary` BINARY(16)");
+        });
+
+        this.migrate(UuidStorage.BINARY.configure(Flyway.configure()).target("latest"));
+
+        Jdbi binaryJdbi = Jdbi.create(this.dataSource).installPlugin(new TicketsJdbiPlugin(UuidStorage.BINARY));
+        StorageService binaryStorage = new DatabaseStorageService(binaryJdbi);
+
+        List<String> indexes = binaryJdbi.withHandle(handle -> handle.createQuery(
+                        "SELECT DISTINCT INDEX_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS WHERE COLUMN_NAME IN ('creator', 'assignee')")
+                .mapTo(String.class)
+                .list());
+
+        assertThat(new BinaryUuidMigration().getChecksum()).isNotNull();
+        assertThat(indexes).containsExactly("tickets_ticket_status_assignee", "tickets_ticket_status_creator");
+        assertThat(binaryStorage.findTicketsByCreator(ticket.creator(), TicketStatus.OPEN)).containsExactly(ticket);
+    }
+
+    private void migrate(final String target) {
+        this.migrate(Flyway.configure().target(target));
+    }
+
+    private void migrate(final FluentConfiguration configuration) {
+        configuration.dataSource(this.dataSource)
+                .locations("classpath:queries/migrations")
+                .load()
+                .migrate();
+    }
+
+}
@@ -0,0 +1,96 @@
+package love.broccolai.tickets.core.storage;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import love.broccolai.tickets.api.model.Ticket;
+import love.broccolai.tickets.api.model.TicketActivity;
+import love.broccolai.tickets.api.model.TicketDraft;
+import love.broccolai.tickets.api.model.TicketStatus;
+import love.broccolai.tickets.api.model.action.AssignAction;
+import love.broccolai.tickets.api.model.action.CloseAction;
+import love.broccolai.tickets.api.service.StatisticService;
+import love.broccolai.tickets.api.service.StorageService;
+import love.broccolai.tickets.core.service.DatabaseStatisticService;
+import love.broccolai.tickets.core.service.DatabaseStorageService;
+import love.broccolai.tickets.core.utilities.TicketsH2Extension;
+import love.broccolai.tickets.core.utilities.TimeUtilities;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class PostgreSqlDialectTest {
+
+    @RegisterExtension
+    private final JdbiExtension h2Extension = TicketsH2Extension.postgreSql();
+
+    private StorageService storageService;
+    private StatisticService statisticService;
+
+    @BeforeEach
+    void setupEach() {
+        this.storageService = new DatabaseStorageService(this.h2Extension.getJdbi());
+        this.statisticService = new DatabaseStatisticService(this.h2Extension.getJdbi());
+    }
+
+    @Test
+    void storesAndFindsTickets() {
+        UUID assignee = UUID.randomUUID();
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Hello!");
+        AssignAction action = new AssignAction(TimeUtilities.nowTruncated(), UUID.randomUUID(), assignee);
+
+        ticket.assignee(assignee);
+        ticket.actions().add(action);
+        this.storageService.saveTicket(ticket);
+        this.storageService.createTickets(List.of(
+                new TicketDraft(TicketStatus.OPEN, UUID.randomUUID(), TimeUtilities.nowTruncated(), null, "Imported")
+        ));
+
+        assertThat(this.storageService.selectTicket(ticket.id()).actions()).containsExactly(action);
+        assertThat(this.storageService.findTickets(TicketStatus.OPEN, assignee, null)).containsExactly(ticket);
+        assertThat(this.storageService.findTickets(TicketStatus.OPEN, null, null)).hasSize(2);
+        assertThat(this.storageService.findTickets(TicketStatus.OPEN, null, null, ticket.id(), 10).tickets()).hasSize(1);
+    }
+
+    @Test
+    void streamsTicketsInsideATransaction() {
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Hello!");
+
+        try (Stream<Ticket> stream = this.storageService.streamTickets(TicketStatus.OPEN, null, null)) {
+            assertThat(stream.toList()).containsExactly(ticket);
+        }
+
+        ticket.message("Saved after streaming");
+        this.storageService.saveTicket(ticket);
+
+        assertThat(this.storageService.selectTicket(ticket.id()).message()).isEqualTo("Saved after streaming");
+    }
+
+    @Test
+    void statistics() {
+        Instant now = TimeUtilities.nowTruncated();
+        UUID assignee = UUID.randomUUID();
+        Ticket ticket = this.storageService.createTicket(UUID.randomUUID(), "Hello!");
+
+        ticket.assignee(assignee);
+        ticket.status(TicketStatus.CLOSED);
+        ticket.actions().add(new AssignAction(now.plusSeconds(60), UUID.randomUUID(), assignee));
+        ticket.actions().add(new CloseAction(now.plusSeconds(120), assignee, null));
+        this.storageService.saveTicket(ticket);
+
+        Duration day = Duration.ofDays(1);
+        List<TicketActivity> activity = this.statisticService.hourlyTicketActivity(day);
+
+        assertThat(this.statisticService.averageTicketsLifespan(day)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(this.statisticService.ticketsLifespanPercentile(day, 0.5)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(this.statisticService.averageTimeToFirstAssign(day)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(this.statisticService.closedTicketsPerAssignee(day)).containsExactly(assignee, 1L);
+        assertThat(activity.stream().mapToLong(TicketActivity::opened).sum()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,33 @@
+package love.broccolai.tickets.core.utilities;
+
+import love.broccolai.tickets.core.storage.SqlDialect;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class QueryTest {
+
+    @Test
+    void loadsEveryQuery() {
+        for (final Query query : Query.values()) {
+            for (final SqlDialect dialect : SqlDialect.values()) {
+                assertThat(query.sql(dialect)).isNotEmpty();
+            }
+        }
+    }
+
+    @Test
+    void dialectOverrides() {
+        assertThat(Query.HOURLY_ACTIVITY.sql(SqlDialect.H2)).isEqualTo(Query.HOURLY_ACTIVITY.sql(SqlDialect.MYSQL));
+        assertThat(Query.HOURLY_ACTIVITY.sql(SqlDialect.POSTGRESQL)).isNotEqualTo(Query.HOURLY_ACTIVITY.sql(SqlDialect.MYSQL));
+        assertThat(Query.FIND_TICKETS.sql(SqlDialect.POSTGRESQL)).isEqualTo(Query.FIND_TICKETS.sql(SqlDialect.MYSQL));
+    }
+
+    @Test
+    void parameters() {
+        String sql = "SELECT CAST(t.date AS DATE)::text, ':ignored' FROM t WHERE t.id IN (<ids>) AND t.status = :status";
+
+        assertThat(Query.parameters(sql)).containsExactly("ids", "status");
+    }
+
+}
@@ -1,8 +1,9 @@
 package love.broccolai.tickets.core.utilities;
 
+import love.broccolai.tickets.core.storage.SqlDialect;
+import love.broccolai.tickets.core.storage.UuidStorage;
 import org.h2.jdbcx.JdbcDataSource;
 import org.jdbi.v3.testing.junit5.JdbiExtension;
-import org.jdbi.v3.testing.junit5.JdbiExtensionInitializer;
 import org.jdbi.v3.testing.junit5.JdbiFlywayMigration;
 import org.jdbi.v3.testing.junit5.JdbiH2Extension;
 import javax.sql.DataSource;
@@ -10,20 +11,29 @@ import java.util.UUID;
 
 public final class TicketsH2Extension {
 
-    private static final JdbiExtensionInitializer FLYWAY_INITIALIZER = JdbiFlywayMigration.flywayMigration()
-            .withPath("queries/migrations");
-
     public static JdbiExtension instance() {
+        return create("MODE=MySQL;DATABASE_TO_LOWER=TRUE", SqlDialect.MYSQL);
+    }
+
+    /**
+     * In-process PostgreSQL stand-in, H2 in PostgreSQL mode running the PostgreSQL queries and migrations.
+     */
+    public static JdbiExtension postgreSql() {
+        return create("MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH", SqlDialect.POSTGRESQL);
+    }
+
+    private static JdbiExtension create(final String settings, final SqlDialect dialect) {
         return new JdbiH2Extension() {
             @Override
             protected DataSource createDataSource() {
                 JdbcDataSource ds = new JdbcDataSource();
-                ds.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+                ds.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";" + settings);
                 ds.setUser("user");
 
                 return ds;
             }
-        }.withPlugin(new TicketsJdbiPlugin()).withInitializer(FLYWAY_INITIALIZER);
+        }.withPlugin(new TicketsJdbiPlugin(UuidStorage.TEXT, dialect))
+                .withInitializer(JdbiFlywayMigration.flywayMigration().withPath(dialect.migrations()));
     }
 
     private TicketsH2Extension() {
@@ -4,10 +4,11 @@ plugins {
 
 rootProject.name = "tickets"
 
-include("api", "core")
+include("api", "core", "benchmarks")
 
 project(":api").name = "tickets-api"
 project(":core").name = "tickets-core"
+project(":benchmarks").name = "tickets-benchmarks"
 
 enableFeaturePreview("VERSION_CATALOGS")
 enableFeaturePreview("TYPESAFE_PROJECT_ACCESSORS")